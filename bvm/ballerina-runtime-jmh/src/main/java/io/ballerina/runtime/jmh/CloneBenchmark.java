@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.CloneUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link CloneUtils#cloneValue(Object)} and {@link CloneUtils#cloneReadOnly(Object)}.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CloneBenchmark {
+
+    @Param({"1", "100"})
+    private int records;
+
+    private BArray value;
+    private BMap<BString, Object> nestedValue;
+
+    @Setup
+    public void setup() {
+        MapType mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        value = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < records; i++) {
+            BMap<BString, Object> address = ValueCreator.createMapValue(mapType);
+            address.put(StringUtils.fromString("city"), StringUtils.fromString("Colombo"));
+            address.put(StringUtils.fromString("zip"), (long) i);
+            BMap<BString, Object> person = ValueCreator.createMapValue(mapType);
+            person.put(StringUtils.fromString("id"), (long) i);
+            person.put(StringUtils.fromString("name"), StringUtils.fromString("Person " + i));
+            person.put(StringUtils.fromString("scores"), ValueCreator.createArrayValue(new long[]{1, 2, 3}));
+            person.put(StringUtils.fromString("address"), address);
+            value.append(person);
+        }
+
+        // a chain of maps nested to the depth of the number of records
+        for (int i = 0; i < records; i++) {
+            BMap<BString, Object> node = ValueCreator.createMapValue(mapType);
+            node.put(StringUtils.fromString("id"), (long) i);
+            node.put(StringUtils.fromString("next"), nestedValue);
+            nestedValue = node;
+        }
+    }
+
+    @Benchmark
+    public Object cloneValue() {
+        return CloneUtils.cloneValue(value);
+    }
+
+    @Benchmark
+    public Object cloneReadOnly() {
+        return CloneUtils.cloneReadOnly(value);
+    }
+
+    @Benchmark
+    public Object cloneNestedValue() {
+        return CloneUtils.cloneValue(nestedValue);
+    }
+}
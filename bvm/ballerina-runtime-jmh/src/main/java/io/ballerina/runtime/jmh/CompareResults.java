@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written in the JSON format, e.g. the results of two commits, and prints the change of
+ * the score of each benchmark.
+ *
+ * @since 2201.13.0
+ */
+public final class CompareResults {
+
+    private static final PrintStream OUT = System.out;
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: CompareResults <baseline results> <current results>");
+        }
+        Map<String, Score> baseline = readScores(Path.of(args[0]));
+        Map<String, Score> current = readScores(Path.of(args[1]));
+
+        OUT.printf("%-80s %14s %14s %10s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score currentScore = entry.getValue();
+            Score baselineScore = baseline.get(entry.getKey());
+            if (baselineScore == null) {
+                OUT.printf("%-80s %14s %14.3f %10s %s%n", entry.getKey(), "-", currentScore.value(), "-",
+                        currentScore.unit());
+                continue;
+            }
+            double change = (currentScore.value() - baselineScore.value()) / baselineScore.value() * 100;
+            OUT.printf("%-80s %14.3f %14.3f %+9.2f%% %s%n", entry.getKey(), baselineScore.value(),
+                    currentScore.value(), change, currentScore.unit());
+        }
+    }
+
+    private static Map<String, Score> readScores(Path resultFile) throws IOException {
+        JsonArray results = JsonParser.parseString(Files.readString(resultFile, StandardCharsets.UTF_8))
+                .getAsJsonArray();
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            JsonObject primaryMetric = result.getAsJsonObject("primaryMetric");
+            scores.put(getBenchmarkName(result), new Score(primaryMetric.get("score").getAsDouble(),
+                    primaryMetric.get("scoreUnit").getAsString()));
+        }
+        return scores;
+    }
+
+    private static String getBenchmarkName(JsonObject result) {
+        StringBuilder name = new StringBuilder(result.get("benchmark").getAsString());
+        JsonObject params = result.getAsJsonObject("params");
+        if (params != null) {
+            Map<String, String> sortedParams = new TreeMap<>();
+            params.entrySet().forEach(param -> sortedParams.put(param.getKey(), param.getValue().getAsString()));
+            name.append(sortedParams);
+        }
+        return name.toString();
+    }
+
+    private record Score(double value, String unit) {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.internal.json.JsonParser;
+import io.ballerina.runtime.internal.values.ObjectValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JsonParser#parse(String)} and {@link JsonParser#parseAsStream}.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    @Param({"1", "1000"})
+    private int records;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < records; i++) {
+            joiner.add("{\"id\":" + i + ",\"name\":\"Person " + i + "\",\"active\":true,\"score\":" + i + ".5," +
+                    "\"tags\":[\"a\",\"b\"],\"address\":{\"city\":\"Colombo\",\"zip\":null}}");
+        }
+        json = joiner.toString();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JsonParser.parse(json);
+    }
+
+    @Benchmark
+    public int parseAsStream() {
+        ObjectValue iterator = (ObjectValue) JsonParser.parseAsStream(new StringReader(json),
+                PredefinedTypes.TYPE_JSON).getIteratorObj();
+        int count = 0;
+        while (iterator.call(null, "next") != null) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for member access and update of {@code MapValueImpl}.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapValueBenchmark {
+
+    @Param({"4", "64"})
+    private int size;
+
+    private BString[] keys;
+    private BMap<BString, Object> map;
+    private int index;
+
+    @Setup
+    public void setup() {
+        keys = new BString[size];
+        map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < size; i++) {
+            keys[i] = StringUtils.fromString("field" + i);
+            map.put(keys[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(nextKey());
+    }
+
+    @Benchmark
+    public Object put() {
+        return map.put(nextKey(), 1L);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> createAndFill() {
+        BMap<BString, Object> newMap = ValueCreator.createMapValue();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], (long) i);
+        }
+        return newMap;
+    }
+
+    private BString nextKey() {
+        BString key = keys[index];
+        index = index + 1 == size ? 0 : index + 1;
+        return key;
+    }
+}
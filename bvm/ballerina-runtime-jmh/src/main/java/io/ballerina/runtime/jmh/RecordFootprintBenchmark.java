@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the heap retained by one million closed and open record values. The records are laid out as the
+ * generated record classes lay them out, with the fields of the record type in JVM fields and the rest fields of an
+ * open record in the underlying map. The retained heap per record is reported as the {@code retainedBytesPerRecord}
+ * secondary result, measured through {@link MemoryMXBean} after a full GC. JMH sums such results over the measurement
+ * iterations, hence a single iteration is measured after the warmup. The time of each shot is dominated by the GCs
+ * and is not meaningful.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class RecordFootprintBenchmark {
+
+    private static final int RECORD_COUNT = 1_000_000;
+    private static final Module MODULE = new Module("benchmark", "records", "1");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString CITY = StringUtils.fromString("city");
+    private static final BString REST_FIELD = StringUtils.fromString("note");
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private Type closedType;
+    private Type openType;
+    private Object[] records;
+
+    /**
+     * Heap retained by each record.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerRecord;
+    }
+
+    @Setup
+    public void setup() {
+        closedType = recordType("Closed", true);
+        openType = recordType("Open", false);
+    }
+
+    @Setup(Level.Iteration)
+    public void allocateRecordArray() {
+        records = new Object[RECORD_COUNT];
+    }
+
+    @TearDown(Level.Iteration)
+    public void releaseRecords() {
+        Arrays.fill(records, null);
+    }
+
+    @Benchmark
+    public Object[] closedRecords(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records[i] = new Record(closedType, i);
+        }
+        footprint.retainedBytesPerRecord = (usedHeapAfterGc() - usedBefore) / RECORD_COUNT;
+        return records;
+    }
+
+    @Benchmark
+    public Object[] openRecords(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Record record = new Record(openType, i);
+            record.put(REST_FIELD, VALUE);
+            records[i] = record;
+        }
+        footprint.retainedBytesPerRecord = (usedHeapAfterGc() - usedBefore) / RECORD_COUNT;
+        return records;
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Type recordType(String name, boolean sealed) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        fields.put("city", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "city", SymbolFlags.REQUIRED));
+        fields.put("active", TypeCreator.createField(PredefinedTypes.TYPE_BOOLEAN, "active", SymbolFlags.REQUIRED));
+        Type restFieldType = sealed ? PredefinedTypes.TYPE_NEVER : PredefinedTypes.TYPE_ANYDATA;
+        return TypeCreator.createRecordType(name, MODULE, 0, fields, restFieldType, sealed, 0);
+    }
+
+    /**
+     * Record value which keeps the fields of its type in JVM fields, as the generated record classes do.
+     */
+    private static final class Record extends MapValueImpl<BString, Object> {
+
+        private final BString name;
+        private final long id;
+        private final BString city;
+        private final boolean active;
+
+        Record(Type type, long id) {
+            super(type);
+            this.name = NAME;
+            this.id = id;
+            this.city = CITY;
+            this.active = (id & 1) == 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for spawning child {@link Strand}s. The throughput is the number of strands spawned per second and the
+ * normalized allocation rate reported by the gc profiler is the number of bytes allocated per strand.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrandBenchmark {
+
+    @Param({"0", "4"})
+    private int parentProperties;
+
+    private Scheduler scheduler;
+    private Strand parent;
+    private FPValue function;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(null);
+        parent = new Strand(scheduler, "parent", null, true, null, null);
+        for (int i = 0; i < parentProperties; i++) {
+            parent.setProperty("property" + i, i);
+        }
+        function = new FPValue(args -> null, PredefinedTypes.TYPE_NULL, "worker", true);
+    }
+
+    @Benchmark
+    public Strand createStrand() {
+        return scheduler.createFuture(parent, "child", true, PredefinedTypes.TYPE_NULL, null, null).strand;
+    }
+
+    @Benchmark
+    public Object startIsolatedWorker() throws Exception {
+        FutureValue future = scheduler.startIsolatedWorker(function, parent, PredefinedTypes.TYPE_NULL, "worker",
+                null, new Object[1]);
+        return future.completableFuture.get();
+    }
+}
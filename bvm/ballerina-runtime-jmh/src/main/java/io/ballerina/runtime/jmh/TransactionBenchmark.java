@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Benchmarks for the transactions per second of {@link TransactionResourceManager} when transactions with the given
+ * number of participating resources run concurrently. The resources are in-memory XA resources which do no work.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TransactionBenchmark {
+
+    private static final String TRANSACTION_BLOCK_ID = "trxBlock";
+
+    @Param({"1", "8"})
+    private int participants;
+
+    private final AtomicLong transactionIds = new AtomicLong();
+    private TransactionResourceManager resourceManager;
+
+    @Setup
+    public void setup() {
+        resourceManager = TransactionResourceManager.getInstance();
+    }
+
+    @Benchmark
+    public boolean commitTransaction() {
+        String transactionId = "trx-" + transactionIds.incrementAndGet();
+        for (int i = 0; i < participants; i++) {
+            InMemoryResource resource = new InMemoryResource();
+            resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, resource);
+            resourceManager.beginXATransaction(transactionId, TRANSACTION_BLOCK_ID, resource);
+        }
+        boolean committed = resourceManager.prepare(transactionId, TRANSACTION_BLOCK_ID) &&
+                resourceManager.notifyCommit(transactionId, TRANSACTION_BLOCK_ID);
+        resourceManager.cleanTransaction(transactionId, TRANSACTION_BLOCK_ID);
+        return committed;
+    }
+
+    /**
+     * Transaction participant with an XA resource which keeps no state.
+     */
+    private static final class InMemoryResource implements BallerinaTransactionContext, XAResource {
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return this;
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TypeChecker#checkIsType(Object, Type)}.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeCheckerBenchmark {
+
+    private Object intValue;
+    private Object stringValue;
+    private Object mapValue;
+    private Type intOrStringType;
+    private Type mapOfIntType;
+
+    @Setup
+    public void setup() {
+        intValue = 42L;
+        stringValue = StringUtils.fromString("ballerina");
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        for (int i = 0; i < 8; i++) {
+            map.put(StringUtils.fromString("field" + i), (long) i);
+        }
+        mapValue = map;
+        intOrStringType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        mapOfIntType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+    }
+
+    @Benchmark
+    public boolean intIsAnydata() {
+        return TypeChecker.checkIsType(intValue, PredefinedTypes.TYPE_ANYDATA);
+    }
+
+    @Benchmark
+    public boolean stringIsIntOrString() {
+        return TypeChecker.checkIsType(stringValue, intOrStringType);
+    }
+
+    @Benchmark
+    public boolean stringIsNotInt() {
+        return TypeChecker.checkIsType(stringValue, PredefinedTypes.TYPE_INT);
+    }
+
+    @Benchmark
+    public boolean mapIsMapOfInt() {
+        return TypeChecker.checkIsType(mapValue, mapOfIntType);
+    }
+
+    @Benchmark
+    public boolean mapIsAnydata() {
+        return TypeChecker.checkIsType(mapValue, PredefinedTypes.TYPE_ANYDATA);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.XmlValue;
+import io.ballerina.runtime.internal.xml.XmlFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for navigating the children of {@link XmlValue}s by name.
+ *
+ * @since 2201.13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlValueBenchmark {
+
+    @Param({"10", "10000"})
+    private int items;
+
+    private XmlValue root;
+    private XmlValue children;
+
+    @Setup
+    public void setup() {
+        StringBuilder xml = new StringBuilder("<root>");
+        for (int i = 0; i < items; i++) {
+            xml.append("<item><id>").append(i).append("</id></item><note>").append(i).append("</note>text");
+        }
+        xml.append("</root>");
+        root = (XmlValue) ((XmlValue) XmlFactory.parse(xml.toString())).getItem(0);
+        children = root.children();
+    }
+
+    @Benchmark
+    public BXml childrenByName() {
+        return root.children("item");
+    }
+
+    @Benchmark
+    public BXml elementsByName() {
+        return children.elements("note");
+    }
+
+    @Benchmark
+    public BXml children() {
+        return root.children();
+    }
+}
@@ -18,31 +18,139 @@
 
 package io.ballerina.runtime.api.types.semtype;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Generalized implementation of type check result cache. It is okay to access this from multiple threads but makes no
  * guarantee about the consistency of the cache under parallel access. Given result don't change due to race conditions
  * this should eventually become consistent.
+ * <p>
+ * Results are kept in a set-associative table of {@code long} entries, each packing the target type id together with
+ * the result, so reads are lock-free and don't box the type id. The table grows on demand, by replacing it with a
+ * compare-and-set, up to a fixed capacity, after which entries within a set are replaced using the CLOCK (second
+ * chance) policy. Only the misses are counted, since a hit is on the hot path of type checks.
  *
  * @since 2201.12.0
  */
 public class TypeCheckCache {
 
+    private static final int WAYS = 4;
+    private static final int INITIAL_CAPACITY = 2 * WAYS;
     private static final int MAX_CAPACITY = 1024;
-    private final Map<Integer, Boolean> cache = new HashMap<>();
+
+    private static final long EMPTY = 0;
+    private static final long FALSE = 0b01;
+    private static final long TRUE = 0b10;
+    private static final long RESULT_MASK = 0b11;
+    private static final long REFERENCED = 0b100;
+    private static final AtomicLongArray NO_ENTRIES = new AtomicLongArray(0);
+    private static final AtomicReferenceFieldUpdater<TypeCheckCache, AtomicLongArray> ENTRIES_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(TypeCheckCache.class, AtomicLongArray.class, "entries");
+
+    private static final LongAdder misses = new LongAdder();
+
+    private volatile AtomicLongArray entries = NO_ENTRIES;
+    private int clockHand = 0;
 
     public Boolean cachedTypeCheckResult(CacheableTypeDescriptor other) {
         int targetTypeId = other.typeId();
-        return cache.get(targetTypeId);
+        AtomicLongArray entries = this.entries;
+        if (entries.length() != 0) {
+            int base = setIndex(targetTypeId, entries.length());
+            for (int i = base; i < base + WAYS; i++) {
+                long entry = entries.get(i);
+                if (entry != EMPTY && typeIdOf(entry) == targetTypeId) {
+                    if ((entry & REFERENCED) == 0) {
+                        entries.compareAndSet(i, entry, entry | REFERENCED);
+                    }
+                    return (entry & RESULT_MASK) == TRUE;
+                }
+            }
+        }
+        misses.increment();
+        return null;
     }
 
     public void cacheTypeCheckResult(CacheableTypeDescriptor other, boolean result) {
         int targetTypeId = other.typeId();
-        if (cache.size() > MAX_CAPACITY) {
-            cache.clear();
+        long newEntry = ((long) targetTypeId << 32) | (result ? TRUE : FALSE);
+        while (true) {
+            AtomicLongArray entries = this.entries;
+            if (entries.length() != 0) {
+                int base = setIndex(targetTypeId, entries.length());
+                if (tryInsert(entries, base, newEntry)) {
+                    return;
+                }
+                if (entries.length() >= MAX_CAPACITY) {
+                    replace(entries, base, newEntry);
+                    return;
+                }
+            }
+            grow(entries);
+        }
+    }
+
+    /**
+     * Returns the number of type check results looked up in the caches but not found so far.
+     *
+     * @return the number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    private static boolean tryInsert(AtomicLongArray entries, int base, long newEntry) {
+        int targetTypeId = typeIdOf(newEntry);
+        for (int i = base; i < base + WAYS; i++) {
+            long entry = entries.get(i);
+            if (entry == EMPTY && entries.compareAndSet(i, EMPTY, newEntry)) {
+                return true;
+            }
+            entry = entries.get(i);
+            if (entry != EMPTY && typeIdOf(entry) == targetTypeId) {
+                return true;
+            }
         }
-        cache.put(targetTypeId, result);
+        return false;
+    }
+
+    private void replace(AtomicLongArray entries, int base, long newEntry) {
+        // Give each recently used entry a second chance by clearing its reference bit. In the worst case every entry
+        // in the set is referenced, and the first one is replaced after a full sweep.
+        for (int attempt = 0; attempt < 2 * WAYS; attempt++) {
+            int i = base + (clockHand++ & (WAYS - 1));
+            long entry = entries.get(i);
+            if ((entry & REFERENCED) != 0) {
+                entries.compareAndSet(i, entry, entry & ~REFERENCED);
+            } else if (entries.compareAndSet(i, entry, newEntry)) {
+                return;
+            }
+        }
+    }
+
+    private void grow(AtomicLongArray current) {
+        int capacity = current.length() == 0 ? INITIAL_CAPACITY : current.length() * 2;
+        AtomicLongArray newEntries = new AtomicLongArray(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            long entry = current.get(i);
+            if (entry != EMPTY) {
+                tryInsert(newEntries, setIndex(typeIdOf(entry), capacity), entry);
+            }
+        }
+        // If some other thread has already grown the table, its table is used instead. Results added to the old table
+        // while it is copied may be lost, which only costs a repeated type check.
+        ENTRIES_UPDATER.compareAndSet(this, current, newEntries);
+    }
+
+    private static int setIndex(int typeId, int capacity) {
+        int hash = typeId * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        return (hash & (capacity / WAYS - 1)) * WAYS;
+    }
+
+    private static int typeIdOf(long entry) {
+        return (int) (entry >>> 32);
     }
 }
@@ -253,15 +253,7 @@ public final class StringUtils {
     }
 
     private static String stringToJson(BString value) {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
-            gen.writeString(value.getValue());
-            gen.flush();
-            return byteOut.toString();
-        } catch (IOException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(
-                    "Error in converting string value to a json string: " + e.getMessage()), e);
-        }
+        return JsonGenerator.toJsonString(value);
     }
 
     private StringUtils() {
@@ -21,10 +21,13 @@ package io.ballerina.runtime.api.utils;
 import io.ballerina.runtime.api.types.AnydataType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.internal.json.JsonParser;
 import io.ballerina.runtime.internal.utils.ValueConverter;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 
 /**
  * This class provides APIs needed for the type conversion in Ballerina.
@@ -62,4 +65,18 @@ public final class ValueUtils {
     public static Object parse(InputStream in, Type targetType) throws BError {
         return JsonParser.parse(in, targetType);
     }
+
+    /**
+     * Parses the JSON array in the given input stream and returns a stream of its members, each created using the
+     * given element type which should be a subtype of {@link AnydataType}. Members are parsed one at a time when they
+     * are requested from the stream, hence large arrays can be processed without reading the whole input. The
+     * {@link InputStream} is closed when the stream completes or is closed.
+     *
+     * @param   in          input stream which contains a JSON array
+     * @param   elementType type of the members of the stream
+     * @return              stream of the array members, which completes with an error if a member cannot be parsed
+     */
+    public static BStream parseAsStream(InputStream in, Type elementType) {
+        return JsonParser.parseAsStream(new InputStreamReader(in, Charset.defaultCharset()), elementType);
+    }
 }
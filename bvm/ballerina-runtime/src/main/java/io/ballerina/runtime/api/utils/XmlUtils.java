@@ -18,6 +18,7 @@
 package io.ballerina.runtime.api.utils;
 
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
@@ -27,6 +28,7 @@ import io.ballerina.runtime.internal.xml.XmlFactory;
 import io.ballerina.runtime.internal.xml.XmlValidator;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 
 /**
@@ -89,6 +91,32 @@ public final class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Parses the XML document in the given reader and returns a stream of the elements at the given path, such as
+     * {@code /feed/entry}. Each element is built only when it is requested from the stream, hence large documents
+     * can be processed with memory proportional to a single element. The reader is closed when the stream completes
+     * or is closed.
+     *
+     * @param reader      XML reader
+     * @param elementPath '/' separated local names, or {@code {namespace-uri}local-name} expanded names, of the
+     *                    elements from the root element, where "*" matches any name
+     * @return stream of the elements at the path, which completes with an error if the document cannot be parsed
+     */
+    public static BStream parseAsStream(Reader reader, String elementPath) {
+        return XmlFactory.parseAsStream(reader, elementPath);
+    }
+
+    /**
+     * Parses the XML document in the given input stream and returns a stream of the elements at the given path.
+     *
+     * @param xmlStream   XML input stream
+     * @param elementPath path of the elements from the root element, as in {@link #parseAsStream(Reader, String)}
+     * @return stream of the elements at the path, which completes with an error if the document cannot be parsed
+     */
+    public static BStream parseAsStream(InputStream xmlStream, String elementPath) {
+        return XmlFactory.parseAsStream(new InputStreamReader(xmlStream), elementPath);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
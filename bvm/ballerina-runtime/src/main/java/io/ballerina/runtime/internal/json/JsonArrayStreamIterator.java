@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BMethodType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.utils.IteratorUtils;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * Iterator object of the stream created by {@link JsonParser#parseAsStream(Reader, Type)}. Each call to the
+ * {@code next} method reads only the next member of the JSON array from the underlying reader and parses it into a
+ * value of the element type, hence the memory needed does not depend on the number of members in the array.
+ *
+ * @since 2201.13.0
+ */
+public final class JsonArrayStreamIterator extends AbstractObjectValue {
+
+    private static final String NEXT = "next";
+    private static final String CLOSE = "close";
+    private static final String ITERATOR_TYPE_NAME = "JsonArrayIterator";
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final Type elementType;
+    private final RecordType nextReturnType;
+    private final MemberReader memberReader = new MemberReader();
+    // the state machine is reused for all the members, unlike when parsing whole documents
+    private final JsonParser.JsonStateMachine stateMachine = new JsonParser.JsonStateMachine();
+    private final char[] buff = new char[1024];
+    private int index;
+    private int count;
+    private int memberIndex;
+    private boolean arrayStarted;
+    private boolean ended;
+
+    JsonArrayStreamIterator(Reader reader, Type elementType, Type completionType) {
+        super(createIteratorType(elementType, completionType));
+        this.reader = reader;
+        this.elementType = elementType;
+        this.nextReturnType = IteratorUtils.createIteratorNextReturnType(elementType);
+    }
+
+    private static BObjectType createIteratorType(Type elementType, Type completionType) {
+        BObjectType iteratorType = new BObjectType(ITERATOR_TYPE_NAME, null, SymbolFlags.ISOLATED);
+        long methodFlags = SymbolFlags.PUBLIC | SymbolFlags.ISOLATED;
+        Type nextReturnType = TypeCreator.createUnionType(IteratorUtils.createIteratorNextReturnType(elementType),
+                completionType);
+        BFunctionType nextFuncType = new BFunctionType(null, new Parameter[0], null, nextReturnType, methodFlags,
+                NEXT);
+        BFunctionType closeFuncType = new BFunctionType(null, new Parameter[0], null, completionType, methodFlags,
+                CLOSE);
+        iteratorType.setMethods(new MethodType[]{
+                new BMethodType(NEXT, null, iteratorType, nextFuncType, methodFlags),
+                new BMethodType(CLOSE, null, iteratorType, closeFuncType, methodFlags)
+        });
+        return iteratorType;
+    }
+
+    /**
+     * Returns the next member of the array wrapped in a record, nil when all the members have been read, or an error
+     * if the input could not be read or a member could not be parsed into the element type. The underlying reader
+     * is closed once the end of the array or an error is reached.
+     *
+     * @return the next member wrapped in a record, nil or an error
+     */
+    public synchronized Object next() {
+        if (this.ended) {
+            return null;
+        }
+        try {
+            if (!hasNextMember()) {
+                readDocumentEnd();
+                close();
+                return null;
+            }
+            this.memberReader.startMember();
+            Object member = this.stateMachine.parse(this.memberReader, this.elementType, FROM_JSON_STRING);
+            this.memberIndex++;
+            return ValueCreator.createRecordValue(ValueCreator.createRecordValue(this.nextReturnType), member);
+        } catch (ParserException e) {
+            close();
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        } catch (IOException e) {
+            close();
+            return ErrorCreator.createError(StringUtils.fromString("error in reading JSON: " + e.getMessage()));
+        } catch (BError e) {
+            close();
+            return ErrorCreator.createError(StringUtils.fromString("error in parsing JSON array member at index "
+                    + this.memberIndex), e);
+        }
+    }
+
+    /**
+     * Stops the iteration and closes the underlying reader.
+     *
+     * @return nil, or an error if the reader could not be closed
+     */
+    public synchronized Object close() {
+        if (this.ended) {
+            return null;
+        }
+        this.ended = true;
+        try {
+            this.reader.close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString("error in closing JSON reader: " + e.getMessage()));
+        }
+    }
+
+    private boolean hasNextMember() throws IOException, ParserException {
+        int ch = readNonWhitespace();
+        if (!this.arrayStarted) {
+            if (ch != '[') {
+                throw new ParserException(ch == EOF ? "empty JSON document" : "expected '[' at the start of the" +
+                        " JSON array, but found '" + (char) ch + "'");
+            }
+            this.arrayStarted = true;
+            ch = readNonWhitespace();
+            if (ch == ']') {
+                return false;
+            } else if (ch == EOF) {
+                throw new ParserException("unexpected end of the JSON array");
+            }
+            // leave the first character of the member to be read by the parser
+            this.index--;
+            return true;
+        }
+        return switch (ch) {
+            case ',' -> true;
+            case ']' -> false;
+            case EOF -> throw new ParserException("unexpected end of the JSON array");
+            default -> throw new ParserException("expected ',' or ']' after the JSON array member, but found '"
+                    + (char) ch + "'");
+        };
+    }
+
+    private void readDocumentEnd() throws IOException, ParserException {
+        int ch = readNonWhitespace();
+        if (ch != EOF) {
+            throw new ParserException("JSON document has already ended, but found '" + (char) ch + "'");
+        }
+    }
+
+    private int readNonWhitespace() throws IOException {
+        while (fillBuffer()) {
+            char ch = this.buff[this.index++];
+            if (!StateMachine.isWhitespace(ch)) {
+                return ch;
+            }
+        }
+        return EOF;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        if (this.index < this.count) {
+            return true;
+        }
+        this.index = 0;
+        this.count = Math.max(this.reader.read(this.buff), 0);
+        return this.count > 0;
+    }
+
+    @Override
+    @Deprecated
+    public Object call(Strand strand, String funcName, Object... args) {
+        return switch (funcName) {
+            case NEXT -> next();
+            case CLOSE -> close();
+            default -> throw ErrorCreator.createError(StringUtils.fromString("No such method: " + funcName));
+        };
+    }
+
+    @Override
+    @Deprecated
+    public BFuture start(Strand strand, String funcName, Object... args) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + funcName));
+    }
+
+    @Override
+    public Object get(BString fieldName) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such field: " + fieldName));
+    }
+
+    @Override
+    public void set(BString fieldName, Object value) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such field: " + fieldName));
+    }
+
+    /**
+     * Reader which exposes a single member of the array to the {@link JsonParser}. It reports the end of the input
+     * at the ',' or ']' which ends the member, and leaves that character to be read by the iterator.
+     */
+    private final class MemberReader extends Reader {
+
+        private boolean memberEnded;
+        private int depth;
+        private boolean inString;
+        private boolean escaped;
+
+        void startMember() {
+            this.memberEnded = false;
+            this.depth = 0;
+            this.inString = false;
+            this.escaped = false;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (this.memberEnded || len == 0 || !fillBuffer()) {
+                return EOF;
+            }
+            char[] source = JsonArrayStreamIterator.this.buff;
+            int start = JsonArrayStreamIterator.this.index;
+            int end = Math.min(JsonArrayStreamIterator.this.count, start + len);
+            int i = start;
+            for (; i < end; i++) {
+                char ch = source[i];
+                if (this.inString) {
+                    if (this.escaped) {
+                        this.escaped = false;
+                    } else if (ch == '\\') {
+                        this.escaped = true;
+                    } else if (ch == '"') {
+                        this.inString = false;
+                    }
+                } else if (ch == '"') {
+                    this.inString = true;
+                } else if (ch == '{' || ch == '[') {
+                    this.depth++;
+                } else if (ch == '}' || ch == ']') {
+                    if (this.depth == 0) {
+                        this.memberEnded = true;
+                        break;
+                    }
+                    this.depth--;
+                } else if (ch == ',' && this.depth == 0) {
+                    this.memberEnded = true;
+                    break;
+                }
+            }
+            int read = i - start;
+            System.arraycopy(source, start, cbuf, off, read);
+            JsonArrayStreamIterator.this.index = i;
+            return read == 0 ? EOF : read;
+        }
+
+        @Override
+        public void close() {
+            // the underlying reader is closed by the iterator
+        }
+    }
+}
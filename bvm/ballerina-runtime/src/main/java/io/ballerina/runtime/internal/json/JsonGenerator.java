@@ -17,14 +17,12 @@
  */
 package io.ballerina.runtime.internal.json;
 
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
-import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.StreamingJsonValue;
 
 import java.io.BufferedWriter;
@@ -35,19 +33,39 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * When the output is UTF-8 encoded, the generator encodes the JSON constructs itself into a byte buffer which is
+ * written to the {@link OutputStream}, instead of going through a {@link Writer}.
  * 
  * @since 0.995.0
  */
 public class JsonGenerator implements Closeable {
 
     private static final int DEFAULT_DEPTH = 10;
-
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INITIAL_STRING_BUFFER_SIZE = 256;
+    private static final int MAX_UTF8_CHUNK_SIZE = 1024;
+    private static final char REPLACEMENT_CHAR = '?';
+    private static final String SEPARATOR = ", ";
+    private static final byte[] SEPARATOR_BYTES = SEPARATOR.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE_BYTES = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE_BYTES = "false".getBytes(StandardCharsets.US_ASCII);
+
+    // Only one of the writer and the byte buffer is used, depending on the output encoding
     private final Writer writer;
+    private final OutputStream out;
+    private byte[] bytes;
+    private int bytesIndex;
 
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
@@ -71,11 +89,43 @@ public class JsonGenerator implements Closeable {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.writer = null;
+            this.out = out;
+            this.bytes = new byte[BUFFER_SIZE];
+        } else {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+            this.out = null;
+        }
     }
 
     public JsonGenerator(Writer writer) {
         this.writer = writer;
+        this.out = null;
+    }
+
+    private JsonGenerator() {
+        // writes to the byte buffer, which grows as needed
+        this.writer = null;
+        this.out = null;
+        this.bytes = new byte[INITIAL_STRING_BUFFER_SIZE];
+    }
+
+    /**
+     * Returns the JSON string of the given JSON value.
+     *
+     * @param json JSON value
+     * @return JSON string
+     */
+    public static String toJsonString(Object json) {
+        JsonGenerator gen = new JsonGenerator();
+        try {
+            gen.serialize(json);
+        } catch (IOException e) {
+            // cannot happen, since the output is written only to the byte buffer
+            throw new IllegalStateException(e);
+        }
+        return new String(gen.bytes, 0, gen.bytesIndex, StandardCharsets.UTF_8);
     }
 
     private void setLevelInit(int index, boolean init) {
@@ -99,7 +149,7 @@ public class JsonGenerator implements Closeable {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.writeSeparator();
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -117,7 +167,7 @@ public class JsonGenerator implements Closeable {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -130,47 +180,91 @@ public class JsonGenerator implements Closeable {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
     }
 
+    private void writeSeparator() throws IOException {
+        if (this.writer != null) {
+            this.writer.write(SEPARATOR);
+        } else {
+            this.writeBytes(SEPARATOR_BYTES);
+        }
+    }
+
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.write('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.write('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.write(':');
+    }
+
+    private void writeFieldName(String fieldName, BRecordType recordType) throws IOException {
+        if (this.writer != null) {
+            this.writeFieldName(fieldName);
+            return;
+        }
+        this.processFieldInit();
+        this.writeBytes(getEncodedFieldName(fieldName, recordType));
+    }
+
+    private static byte[] getEncodedFieldName(String fieldName, BRecordType recordType) {
+        Map<String, byte[]> fieldNames = recordType.getEncodedJsonFieldNames();
+        byte[] encodedFieldName = fieldNames != null ? fieldNames.get(fieldName) : null;
+        if (encodedFieldName != null) {
+            return encodedFieldName;
+        }
+        encodedFieldName = encodeFieldName(fieldName);
+        // only the field names of the record type are cached, the rest fields can have any name
+        if (recordType.getFields().containsKey(fieldName)) {
+            Map<String, byte[]> updatedFieldNames = fieldNames != null ? new HashMap<>(fieldNames) : new HashMap<>();
+            updatedFieldNames.put(fieldName, encodedFieldName);
+            recordType.setEncodedJsonFieldNames(updatedFieldNames);
+        }
+        return encodedFieldName;
+    }
+
+    private static byte[] encodeFieldName(String fieldName) {
+        JsonGenerator gen = new JsonGenerator();
+        try {
+            gen.writeStringValue(fieldName);
+            gen.write(':');
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Arrays.copyOf(gen.bytes, gen.bytesIndex);
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.write('"');
         int count = value.length();
-        char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            char ch = value.charAt(i);
             if (ch < ESC_CHARS.length && ESC_CHARS[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value.toCharArray());
+        } else if (this.writer != null) {
+            this.writer.write(value);
         } else {
-            this.writer.write(chs);
+            this.writeUtf8(value, 0, count);
         }
-        this.writer.write("\"");
+        this.write('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -186,43 +280,43 @@ public class JsonGenerator implements Closeable {
             ch = chs[i];
             switch (ch) {
                 case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
+                    this.write(chs, index, i - index);
+                    this.write("\\\"");
                     index = i + 1;
                     break;
                 case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
+                    this.write(chs, index, i - index);
+                    this.write("\\\\");
                     index = i + 1;
                     break;
                 case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
+                    this.write(chs, index, i - index);
+                    this.write("\\/");
                     index = i + 1;
                     break;
                 case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
+                    this.write(chs, index, i - index);
+                    this.write("\\b");
                     index = i + 1;
                     break;
                 case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
+                    this.write(chs, index, i - index);
+                    this.write("\\n");
                     index = i + 1;
                     break;
                 case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
+                    this.write(chs, index, i - index);
+                    this.write("\\r");
                     index = i + 1;
                     break;
                 case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
+                    this.write(chs, index, i - index);
+                    this.write("\\f");
                     index = i + 1;
                     break;
                 case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
+                    this.write(chs, index, i - index);
+                    this.write("\\t");
                     index = i + 1;
                     break;
                 default:
@@ -231,106 +325,249 @@ public class JsonGenerator implements Closeable {
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.write(chs, index, count - index);
         }
 
     }
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        this.writeLong(value);
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        // integral values with a small magnitude are written as "<value>.0" by Double#toString
+        if (value != 0 && Math.abs(value) < 1.0e7 && value == (long) value) {
+            this.writeLong((long) value);
+            this.write(".0");
+        } else {
+            this.write(Double.toString(value));
+        }
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.write(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        if (this.writer != null) {
+            this.writer.write(Boolean.toString(value));
+        } else {
+            this.writeBytes(value ? TRUE_BYTES : FALSE_BYTES);
+        }
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        if (this.writer != null) {
+            this.writer.write("null");
+        } else {
+            this.writeBytes(NULL_BYTES);
+        }
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.write('[');
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.write(']');
         this.processEndLevel();
     }
 
     public void flush() throws IOException {
-        this.writer.flush();
+        if (this.writer != null) {
+            this.writer.flush();
+            return;
+        }
+        if (this.out != null) {
+            this.flushBytes();
+            this.out.flush();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        this.writer.close();
+        if (this.writer != null) {
+            this.writer.close();
+            return;
+        }
+        if (this.out != null) {
+            this.flushBytes();
+            this.out.close();
+        }
     }
 
     @SuppressWarnings("unchecked")
     public void serialize(Object json) throws IOException {
-        if (json == null) {
-            this.writeNull();
-            return;
-        }
-
-        switch (TypeUtils.getImpliedType(TypeChecker.getType(json)).getTag()) {
-            case TypeTags.ARRAY_TAG:
-            case TypeTags.TUPLE_TAG:
-                if (json instanceof StreamingJsonValue streamingJsonValue) {
-                    streamingJsonValue.serialize(this);
-                    break;
-                }
+        switch (json) {
+            case null -> this.writeNull();
+            case BString stringValue -> this.writeString(stringValue.getValue());
+            case Long longValue -> this.writeNumber(longValue.longValue());
+            case Double doubleValue -> this.writeNumber(doubleValue.doubleValue());
+            case Boolean booleanValue -> this.writeBoolean(booleanValue);
+            case DecimalValue decimalValue -> this.writeNumber(decimalValue.value());
+            // byte values
+            case Integer intValue -> this.writeNumber(intValue.longValue());
+            case MapValueImpl<?, ?> mapValue -> this.serializeMap((MapValueImpl<BString, Object>) mapValue);
+            case StreamingJsonValue streamingJsonValue -> streamingJsonValue.serialize(this);
+            case ArrayValue arrayValue -> {
                 this.writeStartArray();
-                ArrayValue jsonArray = (ArrayValue) json;
-                for (int i = 0; i < jsonArray.size(); i++) {
-                    this.serialize(jsonArray.get(i));
+                for (int i = 0; i < arrayValue.size(); i++) {
+                    this.serialize(arrayValue.get(i));
                 }
                 this.writeEndArray();
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                this.writeBoolean((Boolean) json);
-                break;
-            case TypeTags.FLOAT_TAG:
-                this.writeNumber(((Number) json).doubleValue());
-                break;
-            case TypeTags.DECIMAL_TAG:
-                this.writeNumber(((DecimalValue) json).value());
-                break;
-            case TypeTags.INT_TAG:
-                this.writeNumber(((Number) json).longValue());
-                break;
-            case TypeTags.BYTE_TAG:
-                this.writeNumber(((Number) json).intValue());
-                break;
-            case TypeTags.MAP_TAG:
-            case TypeTags.JSON_TAG:
-            case TypeTags.RECORD_TYPE_TAG:
-                this.startObject();
-                for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
-                    this.writeFieldName(entry.getKey().getValue());
-                    serialize(entry.getValue());
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void serializeMap(MapValueImpl<BString, Object> mapValue) throws IOException {
+        this.startObject();
+        if (TypeUtils.getImpliedType(mapValue.getType()) instanceof BRecordType recordType) {
+            for (Entry<BString, Object> entry : mapValue.entrySet()) {
+                this.writeFieldName(entry.getKey().getValue(), recordType);
+                this.serialize(entry.getValue());
+            }
+        } else {
+            for (Entry<BString, Object> entry : mapValue.entrySet()) {
+                this.writeFieldName(entry.getKey().getValue());
+                this.serialize(entry.getValue());
+            }
+        }
+        this.endObject();
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (this.writer != null || value == Long.MIN_VALUE) {
+            this.write(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        byte[] buff = this.bytes;
+        if (value < 0) {
+            buff[this.bytesIndex++] = '-';
+            value = -value;
+        }
+        int end = this.bytesIndex + stringSize(value);
+        int index = end;
+        do {
+            buff[--index] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        this.bytesIndex = end;
+    }
+
+    private static int stringSize(long value) {
+        long limit = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < limit) {
+                return i;
+            }
+            limit *= 10;
+        }
+        return 19;
+    }
+
+    private void write(char ch) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(ch);
+            return;
+        }
+        if (ch < 0x80) {
+            ensureCapacity(1);
+            this.bytes[this.bytesIndex++] = (byte) ch;
+        } else {
+            this.writeUtf8(String.valueOf(ch), 0, 1);
+        }
+    }
+
+    private void write(String str) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(str);
+        } else {
+            this.writeUtf8(str, 0, str.length());
+        }
+    }
+
+    private void write(char[] chs, int offset, int length) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(chs, offset, length);
+        } else {
+            this.writeUtf8(new String(chs, offset, length), 0, length);
+        }
+    }
+
+    private void writeUtf8(String str, int offset, int length) throws IOException {
+        int end = offset + length;
+        while (offset < end) {
+            offset = this.writeUtf8Chunk(str, offset, Math.min(end, offset + MAX_UTF8_CHUNK_SIZE), end);
+        }
+    }
+
+    private int writeUtf8Chunk(String str, int offset, int chunkEnd, int end) throws IOException {
+        // each char is encoded into at most three bytes, and a surrogate pair which starts at the last char of the
+        // chunk is encoded into four bytes
+        ensureCapacity((chunkEnd - offset) * 3 + 1);
+        byte[] buff = this.bytes;
+        int index = this.bytesIndex;
+        int i = offset;
+        for (; i < chunkEnd; i++) {
+            char ch = str.charAt(i);
+            if (ch < 0x80) {
+                buff[index++] = (byte) ch;
+            } else if (ch < 0x800) {
+                buff[index++] = (byte) (0xc0 | (ch >> 6));
+                buff[index++] = (byte) (0x80 | (ch & 0x3f));
+            } else if (Character.isSurrogate(ch)) {
+                if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(ch, str.charAt(++i));
+                    buff[index++] = (byte) (0xf0 | (codePoint >> 18));
+                    buff[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    buff[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    buff[index++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else {
+                    // same as the replacement done by the charset encoder for malformed input
+                    buff[index++] = (byte) REPLACEMENT_CHAR;
                 }
-                this.endObject();
-                break;
-            case TypeTags.STRING_TAG:
-                this.writeString(json.toString());
-                break;
-            default:
-                break;
+            } else {
+                buff[index++] = (byte) (0xe0 | (ch >> 12));
+                buff[index++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+                buff[index++] = (byte) (0x80 | (ch & 0x3f));
+            }
+        }
+        this.bytesIndex = index;
+        return i;
+    }
+
+    private void writeBytes(byte[] value) throws IOException {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, this.bytes, this.bytesIndex, value.length);
+        this.bytesIndex += value.length;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (this.bytesIndex + length <= this.bytes.length) {
+            return;
+        }
+        if (this.out != null) {
+            this.flushBytes();
+            if (length <= this.bytes.length) {
+                return;
+            }
+        }
+        this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.bytesIndex + length));
+    }
+
+    private void flushBytes() throws IOException {
+        if (this.bytesIndex > 0) {
+            this.out.write(this.bytes, 0, this.bytesIndex);
+            this.bytesIndex = 0;
         }
     }
 }
@@ -39,6 +39,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BListInitialValueEntry;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.TypeConverter;
@@ -62,7 +63,6 @@ import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -120,7 +120,8 @@ public final class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
         try {
-            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+            // InputStreamReader reads the underlying stream in chunks, hence no additional buffering is needed
+            return parse(new InputStreamReader(in, charsetName), targetType);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(("error in parsing input stream: "
                                                                    + e.getMessage())));
@@ -161,13 +162,8 @@ public final class JsonParser {
             throws BError {
         JsonStateMachine sm = tlStateMachine.get();
         try {
-            sm.addTargetType(targetType);
-            JsonStateMachine.mode = mode;
-            return sm.execute(reader);
+            return sm.parse(reader, targetType, mode);
         } finally {
-            // Need to reset the state machine before leaving. Otherwise, references to the created
-            // values will be maintained and the java GC will not happen properly.
-            sm.reset();
             tlStateMachine.remove();
         }
     }
@@ -195,6 +191,21 @@ public final class JsonParser {
         return parse(reader, targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
     }
 
+    /**
+     * Returns a stream of the members of the JSON array in the given {@link Reader}. The members are read and
+     * converted to the given element type one at a time, when they are requested from the stream, and the reader is
+     * closed once the end of the array is reached, the stream is closed, or an error occurs.
+     *
+     * @param reader      reader which contains a JSON array
+     * @param elementType type of the members of the stream
+     * @return stream of the array members, which completes with an error if a member cannot be parsed
+     */
+    public static BStream parseAsStream(Reader reader, Type elementType) {
+        Type completionType = TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(elementType, completionType),
+                new JsonArrayStreamIterator(reader, elementType, completionType));
+    }
+
     private static Type getTargetType(JsonUtils.NonStringValueProcessingMode mode) {
         Type targetType;
         if (mode == FROM_JSON_DECIMAL_STRING) {
@@ -210,7 +221,7 @@ public final class JsonParser {
     /**
      * Represents the state machine used for input stream parsing.
      */
-    private static class JsonStateMachine extends StateMachine {
+    static final class JsonStateMachine extends StateMachine {
 
         private static final String UNSUPPORTED_TYPE = "unsupported type: ";
         private static final String ARRAY_SIZE_MISMATCH = "array size is not enough for the provided values";
@@ -233,6 +244,18 @@ public final class JsonParser {
                     new StringArrayElementState());
         }
 
+        Object parse(Reader reader, Type targetType, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+            try {
+                addTargetType(targetType);
+                JsonStateMachine.mode = mode;
+                return execute(reader);
+            } finally {
+                // Need to reset the state machine before leaving. Otherwise, references to the created
+                // values will be maintained and the java GC will not happen properly.
+                reset();
+            }
+        }
+
         @Override
         public void reset() {
             super.reset();
@@ -357,7 +380,7 @@ public final class JsonParser {
             return switch (parentTargetType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG -> {
                     ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                            StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                            getFieldNameBString(fieldNames.pop()), currentJsonNode);
                     this.currentJsonNode = parentNode;
                     yield FIELD_END_STATE;
                 }
@@ -372,7 +395,7 @@ public final class JsonParser {
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (TypeUtils.getImpliedType(TypeChecker.getType(parentNode)).getTag() == TypeTags.MAP_TAG) {
                         ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                                StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                                getFieldNameBString(fieldNames.pop()), currentJsonNode);
                         this.currentJsonNode = parentNode;
                         yield FIELD_END_STATE;
                     }
@@ -417,7 +440,7 @@ public final class JsonParser {
             List<String> notProvidedFields = new ArrayList<>();
             for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
                 String fieldName = stringFieldEntry.getKey();
-                BString bFieldName = StringUtils.fromString(fieldName);
+                BString bFieldName = getFieldNameBString(fieldName);
                 if (constructedMap.containsKey(bFieldName)) {
                     continue;
                 }
@@ -755,7 +778,7 @@ public final class JsonParser {
                         throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
                 }
                 ((MapValueImpl<BString, Object>) sm.currentJsonNode).putForcefully(
-                        StringUtils.fromString(sm.fieldNames.pop()), bString);
+                        sm.getFieldNameBString(sm.fieldNames.pop()), bString);
             }
 
             private static Type getFieldType(StateMachine sm, BRecordType targetType) {
@@ -961,7 +984,7 @@ public final class JsonParser {
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    getFieldNameBString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
         }
 
         private void processMapType(String str, MapType referredType) throws ParserException {
@@ -970,7 +993,7 @@ public final class JsonParser {
             }
             Type constrainedType = TypeUtils.getImpliedType(referredType.getConstrainedType());
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(this.fieldNames.pop()), convertValues(constrainedType, str));
+                    getFieldNameBString(this.fieldNames.pop()), convertValues(constrainedType, str));
         }
 
         private void processTupleType(String str, TupleType referredType) throws ParserException {
@@ -1016,7 +1039,7 @@ public final class JsonParser {
                     break;
                 case FIELD:
                     ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                            getFieldNameBString(this.fieldNames.pop()), value);
                     break;
                 default:
                     this.currentJsonNode = value;
@@ -22,6 +22,7 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -78,6 +79,13 @@ public abstract class StateMachine {
     protected final Deque<Object> nodesStack = new ArrayDeque<>();
     protected final Deque<String> fieldNames = new ArrayDeque<>();
 
+    // Field names repeat across the objects of a document, hence the strings and the Ballerina strings created for
+    // them are reused through a small direct-mapped cache.
+    private static final int FIELD_NAME_CACHE_SIZE = 64;
+    private final String[] fieldNameCache = new String[FIELD_NAME_CACHE_SIZE];
+    private final BString[] fieldNameBStringCache = new BString[FIELD_NAME_CACHE_SIZE];
+
+    private final char[] readBuff = new char[1024];
     protected final StringBuilder hexBuilder = new StringBuilder(4);
     protected char[] charBuff = new char[1024];
     protected int charBuffIndex;
@@ -123,7 +131,7 @@ public abstract class StateMachine {
     public Object execute(Reader reader) throws BError {
         State currentState = DOC_START_STATE;
         try {
-            char[] buff = new char[1024];
+            char[] buff = this.readBuff;
             int count;
             while ((count = reader.read(buff)) > 0) {
                 this.index = 0;
@@ -390,7 +398,54 @@ public abstract class StateMachine {
     }
 
     public void processFieldName() {
-        this.fieldNames.push(this.value());
+        this.fieldNames.push(this.fieldNameValue());
+    }
+
+    private String fieldNameValue() {
+        int length = this.charBuffIndex;
+        this.charBuffIndex = 0;
+        // Same as String#hashCode, which lets the cached string be rejected without comparing the content
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + this.charBuff[i];
+        }
+        int slot = getFieldNameCacheSlot(hash);
+        String cached = this.fieldNameCache[slot];
+        if (cached != null && cached.hashCode() == hash && contentEquals(cached, length)) {
+            return cached;
+        }
+        String fieldName = new String(this.charBuff, 0, length);
+        this.fieldNameCache[slot] = fieldName;
+        this.fieldNameBStringCache[slot] = null;
+        return fieldName;
+    }
+
+    private boolean contentEquals(String str, int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != this.charBuff[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    BString getFieldNameBString(String fieldName) {
+        int slot = getFieldNameCacheSlot(fieldName.hashCode());
+        BString cached = this.fieldNameBStringCache[slot];
+        if (cached != null && fieldName.equals(this.fieldNameCache[slot])) {
+            return cached;
+        }
+        BString bFieldName = StringUtils.fromString(fieldName);
+        this.fieldNameCache[slot] = fieldName;
+        this.fieldNameBStringCache[slot] = bFieldName;
+        return bFieldName;
+    }
+
+    private static int getFieldNameCacheSlot(int hash) {
+        return (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
     }
 
     /**
@@ -21,11 +21,15 @@ package io.ballerina.runtime.internal.lock;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Class used for generating code to manage Ballerina locks.
@@ -35,16 +39,22 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @SuppressWarnings("unused")
 public class BLockStore {
 
+    private static final String LOCK_ACQUISITIONS_METRIC = "ballerina_lock_acquisitions";
+    private static final String CONTENDED_LOCK_ACQUISITIONS_METRIC = "ballerina_lock_contended_acquisitions";
+
+    // Lock acquisition counters shared by the lock stores of all the modules
+    private static final LongAdder lockAcquisitions = new LongAdder();
+    private static final LongAdder contendedLockAcquisitions = new LongAdder();
+    private static volatile boolean metricsRegistered = false;
+
     /**
      * The map of locks inferred.
      */
     private final Map<String, ReentrantLock> globalLockMap;
 
-    private final ReentrantReadWriteLock storeLock;
-
     public BLockStore() {
-        this.globalLockMap = new HashMap<>();
-        this.storeLock = new ReentrantReadWriteLock();
+        this.globalLockMap = new ConcurrentHashMap<>();
+        registerMetrics();
     }
 
     /*
@@ -52,13 +62,7 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void lock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).lock();
-            strand.acquiredLockCount++;
-        } finally {
-            strand.resume();
-        }
+        acquire(strand, getLockFromMap(lockName));
     }
 
     /*
@@ -66,13 +70,7 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void lock(Strand strand, ReentrantLock lock) {
-        try {
-            strand.yield();
-            lock.lock();
-            strand.acquiredLockCount++;
-        } finally {
-            strand.resume();
-        }
+        acquire(strand, lock);
     }
 
     /*
@@ -80,13 +78,7 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void unlock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).unlock();
-            strand.acquiredLockCount--;
-        } finally {
-            strand.resume();
-        }
+        release(strand, getLockFromMap(lockName));
     }
 
     /*
@@ -94,13 +86,7 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void unlock(Strand strand, ReentrantLock lock) {
-        try {
-            strand.yield();
-            lock.unlock();
-            strand.acquiredLockCount--;
-        } finally {
-            strand.resume();
-        }
+        release(strand, lock);
     }
 
     /*
@@ -113,26 +99,78 @@ public class BLockStore {
         }
     }
 
-    private ReentrantLock getLockFromMap(String lockName) {
-        ReentrantLock lock;
+    /**
+     * Returns the number of Ballerina lock acquisitions made so far.
+     *
+     * @return the number of lock acquisitions
+     */
+    public static long getLockAcquisitionCount() {
+        return lockAcquisitions.sum();
+    }
+
+    /**
+     * Returns the number of Ballerina lock acquisitions which had to wait for the lock to be released by another
+     * strand.
+     *
+     * @return the number of contended lock acquisitions
+     */
+    public static long getContendedLockAcquisitionCount() {
+        return contendedLockAcquisitions.sum();
+    }
+
+    private void acquire(Strand strand, ReentrantLock lock) {
+        strand.checkStrandCancelled();
+        if (!metricsRegistered) {
+            registerMetrics();
+        }
+        lockAcquisitions.increment();
+        // An uncontended lock is taken without releasing the global lock held by a non-isolated strand, since
+        // there is nothing to wait for.
+        if (lock.tryLock()) {
+            strand.acquiredLockCount++;
+            return;
+        }
+        contendedLockAcquisitions.increment();
         try {
-            storeLock.readLock().lock();
-            lock = globalLockMap.get(lockName);
+            strand.yield();
+            lock.lock();
+            strand.acquiredLockCount++;
         } finally {
-            storeLock.readLock().unlock();
+            strand.resume();
         }
+    }
+
+    private void release(Strand strand, ReentrantLock lock) {
+        // Unlocking never blocks, hence the strand does not need to yield here.
+        strand.checkStrandCancelled();
+        lock.unlock();
+        strand.acquiredLockCount--;
+    }
+
+    private ReentrantLock getLockFromMap(String lockName) {
+        ReentrantLock lock = globalLockMap.get(lockName);
         if (lock != null) {
             return lock;
         }
-        return addLockToMap(lockName);
+        return globalLockMap.computeIfAbsent(lockName, k -> new ReentrantLock());
     }
 
-    private ReentrantLock addLockToMap(String lockName) {
-        try {
-            storeLock.writeLock().lock();
-            return globalLockMap.computeIfAbsent(lockName, k -> new ReentrantLock());
-        } finally {
-            storeLock.writeLock().unlock();
+    private static void registerMetrics() {
+        // The lock stores are created before the observe module sets up the metric registry, hence the metrics are
+        // registered by the first lock store used once the registry is available.
+        if (metricsRegistered || !ObserveUtils.isMetricsEnabled()
+                || DefaultMetricRegistry.getInstance().getMetricProvider() instanceof NoOpMetricProvider) {
+            return;
+        }
+        synchronized (BLockStore.class) {
+            if (metricsRegistered) {
+                return;
+            }
+            PolledGauge.builder(LOCK_ACQUISITIONS_METRIC, lockAcquisitions, LongAdder::doubleValue)
+                    .description("Number of Ballerina lock acquisitions").register();
+            PolledGauge.builder(CONTENDED_LOCK_ACQUISITIONS_METRIC, contendedLockAcquisitions, LongAdder::doubleValue)
+                    .description("Number of Ballerina lock acquisitions that waited for another strand").register();
+            metricsRegistered = true;
         }
     }
 }
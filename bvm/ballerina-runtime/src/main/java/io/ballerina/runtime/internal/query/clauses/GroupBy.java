@@ -19,23 +19,20 @@
 package io.ballerina.runtime.internal.query.clauses;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.query.utils.HashUtils;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.ballerina.runtime.api.types.PredefinedTypes.TYPE_ANY_ARRAY;
-import static io.ballerina.runtime.internal.query.utils.QueryConstants.GROUP_KEY_CONSTANT;
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
 
 /**
@@ -61,68 +58,97 @@ public class GroupBy implements QueryClause {
 
     @Override
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        Map<GroupKey, List<BMap<BString, Object>>> groupedData = inputStream
-                .collect(Collectors.groupingBy(
-                        frame -> new GroupKey(extractOriginalKey(frame)),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
-
+        Map<GroupKey, Group> groupedData = new LinkedHashMap<>();
+        inputStream.forEach(frame -> groupedData
+                .computeIfAbsent(new GroupKey(extractGroupingValues(frame)), key -> new Group(frame))
+                .add(frame));
         return groupedData.values().stream().map(this::aggregateNonGroupingKeys);
     }
 
-    private BMap<BString, Object> aggregateNonGroupingKeys(List<BMap<BString, Object>> frames) {
-        BMap<BString, Object> groupedRecord = frames.getFirst();
+    private BMap<BString, Object> aggregateNonGroupingKeys(Group group) {
+        BMap<BString, Object> groupedRecord = group.firstFrame;
 
         // Aggregate non-grouping fields into arrays
         for (int i = 0; i < nonGroupingKeys.size(); i++) {
             BString nonGroupingKey = (BString) nonGroupingKeys.get(i);
-            Object[] values = frames.stream()
-                    .map(f -> f.get(nonGroupingKey))
-                    .filter(Objects::nonNull)
-                    .toArray();
-            BArray valuesArray = ValueCreator.createArrayValue(values, TYPE_ANY_ARRAY);
+            BArray valuesArray = ValueCreator.createArrayValue(group.values[i].toArray(), TYPE_ANY_ARRAY);
             groupedRecord.put(nonGroupingKey, valuesArray);
         }
 
         return groupedRecord;
     }
 
-    private BMap<BString, Object> extractOriginalKey(BMap<BString, Object> frame) {
-        BMap<BString, Object> keyMap = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+    private Object[] extractGroupingValues(BMap<BString, Object> frame) {
+        Object[] values = new Object[groupingKeys.size()];
 
-        for (int i = 0; i < groupingKeys.size(); i++) {
+        for (int i = 0; i < values.length; i++) {
             BString key = (BString) groupingKeys.get(i);
-            Object value;
             if (frame.containsKey(key)) {
-                value = frame.get(key);
+                values[i] = frame.get(key);
             } else {
                 BMap<BString, Object> nestedRec = (BMap<BString, Object>) frame.get(VALUE_FIELD);
-                value = nestedRec.get(key);
+                values[i] = nestedRec.get(key);
+            }
+        }
+
+        return values;
+    }
+
+    // Collects the non-grouping values of the frames of a group in a single pass over the input
+    private final class Group {
+
+        private final BMap<BString, Object> firstFrame;
+        private final List<Object>[] values;
+
+        @SuppressWarnings("unchecked")
+        private Group(BMap<BString, Object> firstFrame) {
+            this.firstFrame = firstFrame;
+            this.values = new List[nonGroupingKeys.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = new ArrayList<>();
             }
-            keyMap.put(key, value);
         }
 
-        return keyMap;
+        private void add(BMap<BString, Object> frame) {
+            for (int i = 0; i < values.length; i++) {
+                Object value = frame.get((BString) nonGroupingKeys.get(i));
+                if (value != null) {
+                    values[i].add(value);
+                }
+            }
+        }
     }
 
     // Custom key wrapper for deep equality grouping
-    private record GroupKey(BMap<BString, Object> keyMap) {
+    private static final class GroupKey {
+
+        private final Object[] values;
+        private final int hash;
+
+        private GroupKey(Object[] values) {
+            this.values = values;
+            this.hash = HashUtils.hash(values);
+        }
 
         @Override
         public boolean equals(Object o) {
             if (this == o) {
                 return true;
             }
-            if (!(o instanceof GroupKey other)) {
+            if (!(o instanceof GroupKey other) || this.hash != other.hash) {
                 return false;
             }
-            return TypeChecker.isEqual(this.keyMap, other.keyMap);
+            for (int i = 0; i < values.length; i++) {
+                if (!TypeChecker.isEqual(this.values[i], other.values[i])) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
         public int hashCode() {
-            return GROUP_KEY_CONSTANT;
+            return hash;
         }
     }
 }
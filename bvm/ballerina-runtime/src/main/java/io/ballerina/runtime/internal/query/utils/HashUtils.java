@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.utils;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.TypeChecker.checkDecimalEqual;
+
+/**
+ * Computes hash codes for Ballerina values that are consistent with {@code TypeChecker.isEqual}, i.e. values that are
+ * equal according to the `==` operator always get the same hash code.
+ *
+ * @since 2201.13.0
+ */
+public final class HashUtils {
+
+    // Structures nested deeper than this are not hashed further, which keeps hashing cheap and cycle safe.
+    private static final int MAX_DEPTH = 4;
+    private static final int NIL_HASH = 0;
+    private static final int REF_VALUE_HASH = 31;
+
+    private HashUtils() {
+    }
+
+    /**
+     * Returns a hash code for the given value which is consistent with deep value equality.
+     *
+     * @param value the value to be hashed
+     * @return the hash code
+     */
+    public static int hash(Object value) {
+        return hash(value, 0);
+    }
+
+    /**
+     * Returns a combined hash code for the given values which is consistent with member-wise deep value equality.
+     *
+     * @param values the values to be hashed
+     * @return the hash code
+     */
+    public static int hash(Object[] values) {
+        int result = 1;
+        for (Object value : values) {
+            result = 31 * result + hash(value, 0);
+        }
+        return result;
+    }
+
+    private static int hash(Object value, int depth) {
+        return switch (value) {
+            case null -> NIL_HASH;
+            case Long longValue -> Long.hashCode(longValue);
+            // byte values belong to the int basic type and are compared using their long value
+            case Integer intValue -> Long.hashCode(intValue);
+            case BString stringValue -> stringValue.getValue().hashCode();
+            case Boolean booleanValue -> Boolean.hashCode(booleanValue);
+            case Double doubleValue -> hashFloat(doubleValue);
+            case DecimalValue decimalValue -> hashDecimal(decimalValue);
+            case MapValueImpl<?, ?> mapValue -> depth < MAX_DEPTH ? hashMap(mapValue, depth + 1) : REF_VALUE_HASH;
+            case ArrayValue arrayValue -> depth < MAX_DEPTH ? hashArray(arrayValue, depth + 1) : REF_VALUE_HASH;
+            default -> REF_VALUE_HASH;
+        };
+    }
+
+    private static int hashFloat(double value) {
+        // NaN is equal to NaN and -0.0 is equal to 0.0
+        if (Double.isNaN(value)) {
+            return Double.hashCode(Double.NaN);
+        }
+        return value == 0.0 ? 0 : Double.hashCode(value);
+    }
+
+    private static int hashDecimal(DecimalValue value) {
+        if (!checkDecimalEqual(value, value)) {
+            return NIL_HASH;
+        }
+        return value.decimalValue().stripTrailingZeros().hashCode();
+    }
+
+    private static int hashMap(MapValueImpl<?, ?> mapValue, int depth) {
+        // map equality does not depend on the member order
+        int result = 0;
+        for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+            result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth);
+        }
+        return result;
+    }
+
+    private static int hashArray(ArrayValue arrayValue, int depth) {
+        int size = arrayValue.size();
+        int result = size;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + hash(arrayValue.get(i), depth);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.utils;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+/**
+ * Wraps the value of a join key so that it can be used as a hash table key. Two join keys are equal if their values
+ * are equal according to the `==` operator, which is what the `equals` of a join clause means.
+ *
+ * @since 2201.13.0
+ */
+public final class JoinKey {
+
+    private final Object value;
+    private final int hash;
+
+    public JoinKey(Object value) {
+        this.value = value;
+        this.hash = HashUtils.hash(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JoinKey other) || this.hash != other.hash) {
+            return false;
+        }
+        // fast paths for the most common int and string keys
+        if (this.value instanceof Long lhs && other.value instanceof Long rhs) {
+            return lhs.longValue() == rhs.longValue();
+        }
+        if (this.value instanceof BString lhs && other.value instanceof BString rhs) {
+            return lhs.getValue().equals(rhs.getValue());
+        }
+        return TypeChecker.isEqual(this.value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -15,12 +15,14 @@
  */
 package io.ballerina.runtime.internal.regexp;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.ballerina.identifier.Utils;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
+import io.ballerina.runtime.internal.types.semtype.CacheFactory;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.RegExpAssertion;
 import io.ballerina.runtime.internal.values.RegExpAtom;
@@ -38,6 +40,8 @@ import io.ballerina.runtime.internal.values.RegExpSequence;
 import io.ballerina.runtime.internal.values.RegExpTerm;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.regex.Pattern;
+
 /**
  * Common utility methods used for regular expression manipulation.
  *
@@ -45,6 +49,11 @@ import io.ballerina.runtime.internal.values.RegExpValue;
  */
 public final class RegExpFactory {
 
+    // Regular expressions created at runtime, e.g. using `fromString`, are new values each time, hence the compiled
+    // patterns are shared through a bounded cache keyed by the translated pattern.
+    private static final LoadingCache<String, Pattern> PATTERN_CACHE =
+            CacheFactory.createCache(pattern -> Pattern.compile(pattern, Pattern.UNICODE_CHARACTER_CLASS));
+
     private RegExpFactory() {
     }
 
@@ -131,6 +140,10 @@ public final class RegExpFactory {
         }
     }
 
+    public static Pattern getPattern(String translatedPattern) {
+        return PATTERN_CACHE.get(translatedPattern);
+    }
+
     public static RegExpValue translateRegExpConstructs(RegExpValue regExpValue) {
         RegExpDisjunction disjunction = regExpValue.getRegExpDisjunction();
         if (disjunction.stringValue(null).isEmpty()) {
@@ -24,24 +24,20 @@ import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
-import io.ballerina.runtime.internal.types.BServiceType;
+import io.ballerina.runtime.internal.types.BObjectType;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -80,13 +76,16 @@ public class Scheduler {
     }
 
     public Object callMethod(BObject object, String methodName, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(getStrandName(object, methodName), metadata);
+        ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
+        MethodType methodType = getObjectMethodType(methodName, objectType);
+        Strand strand = getStrand(getStrandName(object, methodName), metadata,
+                objectType.isIsolated() && methodType.isIsolated());
         if (strand.isRunnable()) {
-            return callMethod(object, methodName, args, strand);
+            return callMethod(object, methodName, objectType, methodType, args, strand);
         }
         try {
             strand.resume();
-            return callMethod(object, methodName, args, strand);
+            return callMethod(object, methodName, objectType, methodType, args, strand);
         }  finally {
             strand.done();
         }
@@ -150,12 +149,20 @@ public class Scheduler {
     }
 
     private Strand getStrand(String strandName, StrandMetadata metadata) {
+        return getStrand(strandName, metadata, false);
+    }
+
+    /*
+     * A new strand does not need the global non-isolated lock if either the caller marks it as concurrent safe or the
+     * isolation analysis has already proven the callee to be isolated.
+     */
+    private Strand getStrand(String strandName, StrandMetadata metadata, boolean isCalleeIsolated) {
         Strand strand = Scheduler.getStrand();
         Map<String, Object> properties = null;
-        boolean isIsolated = false;
+        boolean isIsolated = isCalleeIsolated;
         if (metadata != null) {
             properties = metadata.properties();
-            isIsolated = metadata.isConcurrentSafe();
+            isIsolated = isIsolated || metadata.isConcurrentSafe();
         }
         if (strand == null) {
             strand = createStrand(null, strandName, isIsolated, properties, null);
@@ -171,9 +178,8 @@ public class Scheduler {
         return functionType.valueCreator().call(parentStrand, functionName, argsWithDefaultValues);
     }
 
-    private Object callMethod(BObject object, String methodName, Object[] args, Strand parentStrand) {
-        ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
-        MethodType methodType = getObjectMethodType(methodName, objectType);
+    private Object callMethod(BObject object, String methodName, ObjectType objectType, MethodType methodType,
+                              Object[] args, Strand parentStrand) {
         Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, parentStrand, args);
         return ((ObjectValue) object).call(parentStrand, methodName, argsWithDefaultValues);
     }
@@ -187,7 +193,7 @@ public class Scheduler {
 
     private Object[] getArgsWithDefaultValues(Strand parentStrand, Object[] args, FunctionType functionType) {
         Module module = functionType.getPackage();
-        if (module == null) {
+        if (module == null || !isDefaultValueProcessingRequired(functionType, args)) {
             return args;
         }
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
@@ -238,14 +244,37 @@ public class Scheduler {
 
     private Object[] getArgsWithDefaultValues(ObjectType objectType, MethodType methodType, Strand strand,
                                               Object... args) {
-
+        if (!isDefaultValueProcessingRequired(methodType, args)) {
+            return args;
+        }
         Module module = objectType.getPackage();
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
         return getArgsWithDefaultValues(valueCreator, methodType, strand, args);
     }
 
+    /*
+     * The arguments can be used as they are if there is an argument for every parameter, including the rest
+     * parameter, and none of them is a defaultable parameter for which the default value should be used.
+     */
+    private static boolean isDefaultValueProcessingRequired(FunctionType functionType, Object[] args) {
+        Parameter[] parameters = functionType.getParameters();
+        int length = functionType.getRestType() == null ? parameters.length : parameters.length + 1;
+        if (args.length < length) {
+            return true;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isDefault && args[i] == BNever.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Object[] getArgsWithDefaultValues(ValueCreator valueCreator, FunctionType functionType, Strand strand,
                                               Object... args) {
+        if (!isDefaultValueProcessingRequired(functionType, args)) {
+            return args;
+        }
         Parameter[] parameters = functionType.getParameters();
         if (args.length == 0 && parameters.length == 0) {
             return new Object[]{};
@@ -267,23 +296,7 @@ public class Scheduler {
     }
 
     public MethodType getObjectMethodType(String methodName, ObjectType objectType) {
-        Map<String, MethodType> methodTypesMap = new HashMap<>();
-        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
-            BServiceType serviceType = (BServiceType) objectType;
-            ResourceMethodType[] resourceMethods = serviceType.getResourceMethods();
-            for (ResourceMethodType resourceMethodType : resourceMethods) {
-                methodTypesMap.put(resourceMethodType.getName(), resourceMethodType);
-            }
-            RemoteMethodType[] remoteMethodTypes = serviceType.getRemoteMethods();
-            for (RemoteMethodType remoteMethodType : remoteMethodTypes) {
-                methodTypesMap.put(remoteMethodType.getName(), remoteMethodType);
-            }
-        }
-        MethodType[] objectTypeMethods = objectType.getMethods();
-        for (MethodType methodType : objectTypeMethods) {
-            methodTypesMap.put(methodType.getName(), methodType);
-        }
-        MethodType methodType = methodTypesMap.get(methodName);
+        MethodType methodType = ((BObjectType) objectType).getMethod(methodName);
         if (methodType != null) {
             return methodType;
         }
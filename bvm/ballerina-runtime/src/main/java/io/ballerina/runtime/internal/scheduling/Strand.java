@@ -21,6 +21,7 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -39,12 +40,15 @@ public class Strand {
     private final int id;
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
     private Map<String, Object> globalProps;
+    // the properties map is shared with the parent and child strands until it is first updated
+    private boolean globalPropsShared;
 
     public final String name;
     public final boolean isIsolated;
     public boolean cancelled;
     public Scheduler scheduler;
     public TransactionLocalContext currentTrxContext;
+    // null until a transaction context is pushed
     public Stack<TransactionLocalContext> trxContexts;
     public WorkerChannelMap workerChannelMap;
     public int acquiredLockCount;
@@ -54,14 +58,16 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
-        this.trxContexts = new Stack<>();
         this.isIsolated = isIsolated;
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null && parent.globalProps != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
+        } else if (parent != null) {
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
         } else {
-            this.globalProps = new HashMap<>();
+            this.globalProps = Collections.emptyMap();
+            this.globalPropsShared = true;
         }
         this.workerChannelMap = workerChannelMap;
     }
@@ -71,6 +77,9 @@ public class Strand {
                   TransactionLocalContext currentTrxContext) {
         this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
         if (currentTrxContext != null) {
+            if (parent.trxContexts == null) {
+                parent.trxContexts = new Stack<>();
+            }
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
@@ -130,7 +139,15 @@ public class Strand {
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableProps().put(key, value);
+    }
+
+    private Map<String, Object> getWritableProps() {
+        if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
+        return this.globalProps;
     }
 
     public boolean isInTransaction() {
@@ -138,21 +155,24 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            this.globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getWritableProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        this.globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        getWritableProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        this.globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        getWritableProps().putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
     }
 
     public int getId() {
@@ -24,7 +24,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 
 /**
  * {@code AnnotatableType} represents a type description which contains annotations.
@@ -45,7 +45,7 @@ public abstract class BAnnotatableType extends BType implements AnnotatableType
 
     @Override
     public BMap<BString, Object> getAnnotations() {
-        return (BMap<BString, Object>) this.annotations.copy(new LinkedHashMap<>());
+        return (BMap<BString, Object>) this.annotations.copy(new IdentityHashMap<>());
     }
 
     @Override
@@ -57,6 +57,8 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +93,8 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     private final DefinitionContainer<ObjectDefinition> defn = new DefinitionContainer<>();
     private final DefinitionContainer<ObjectDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private volatile DistinctIdSupplier distinctIdSupplier;
+    // computed when a method is first looked up by name
+    private volatile Map<String, MethodType> methodIndex;
 
     /**
      * Create a {@code BObjectType} which represents the user defined struct type.
@@ -177,6 +181,34 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     @Override
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        this.methodIndex = null;
+    }
+
+    /**
+     * Returns the method with the given name, using an index of the methods which is built once per type.
+     *
+     * @param methodName name of the method
+     * @return the method type, or null if there is no such method
+     */
+    public MethodType getMethod(String methodName) {
+        Map<String, MethodType> index = this.methodIndex;
+        if (index == null) {
+            index = Collections.unmodifiableMap(createMethodIndex());
+            this.methodIndex = index;
+        }
+        return index.get(methodName);
+    }
+
+    protected Map<String, MethodType> createMethodIndex() {
+        Map<String, MethodType> index = new HashMap<>();
+        for (MethodType methodType : methodTypes) {
+            index.put(methodType.getName(), methodType);
+        }
+        return index;
+    }
+
+    void clearMethodIndex() {
+        this.methodIndex = null;
     }
 
     public void setInitMethod(MethodType initMethod) {
@@ -430,33 +462,39 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
         }
         ObjectDefinition od = new ObjectDefinition();
         object.setReadonlyShapeDefinition(od);
-        List<Member> members = new ArrayList<>();
-        Set<String> seen = new HashSet<>(fields.size() + methodTypes.length);
-        ObjectQualifiers qualifiers = getObjectQualifiers();
-        for (Entry<String, Field> entry : fields.entrySet()) {
-            String name = entry.getKey();
-            if (skipField(seen, name)) {
-                continue;
+        try {
+            List<Member> members = new ArrayList<>();
+            Set<String> seen = new HashSet<>(fields.size() + methodTypes.length);
+            ObjectQualifiers qualifiers = getObjectQualifiers();
+            for (Entry<String, Field> entry : fields.entrySet()) {
+                String name = entry.getKey();
+                if (skipField(seen, name)) {
+                    continue;
+                }
+                Field field = entry.getValue();
+                boolean isPublic = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.PUBLIC);
+                boolean isImmutable = qualifiers.readonly() |
+                        SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY) |
+                        SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.FINAL);
+                members.add(new Member(name, fieldShape(cx, shapeSupplier, field, object, isImmutable),
+                        Member.Kind.Field, isPublic ? Member.Visibility.Public : Member.Visibility.Private,
+                        isImmutable));
             }
-            Field field = entry.getValue();
-            boolean isPublic = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.PUBLIC);
-            boolean isImmutable = qualifiers.readonly() | SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY) |
-                    SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.FINAL);
-            members.add(new Member(name, fieldShape(cx, shapeSupplier, field, object, isImmutable), Member.Kind.Field,
-                    isPublic ? Member.Visibility.Public : Member.Visibility.Private, isImmutable));
-        }
-        for (MethodData method : allMethods(cx)) {
-            String name = method.name();
-            if (skipField(seen, name)) {
-                continue;
+            for (MethodData method : allMethods(cx)) {
+                String name = method.name();
+                if (skipField(seen, name)) {
+                    continue;
+                }
+                boolean isPublic = SymbolFlags.isFlagOn(method.flags(), SymbolFlags.PUBLIC);
+                members.add(new Member(name, method.semType(), Member.Kind.Method,
+                        isPublic ? Member.Visibility.Public : Member.Visibility.Private, true));
             }
-            boolean isPublic = SymbolFlags.isFlagOn(method.flags(), SymbolFlags.PUBLIC);
-            members.add(new Member(name, method.semType(), Member.Kind.Method,
-                    isPublic ? Member.Visibility.Public : Member.Visibility.Private, true));
+            return od.define(cx.env, qualifiers, members,
+                    qualifiers.readonly() ? CellAtomicType.CellMutability.CELL_MUT_NONE :
+                            CellAtomicType.CellMutability.CELL_MUT_LIMITED);
+        } finally {
+            object.resetReadonlyShapeDefinition();
         }
-        return od.define(cx.env, qualifiers, members,
-                qualifiers.readonly() ? CellAtomicType.CellMutability.CELL_MUT_NONE :
-                        CellAtomicType.CellMutability.CELL_MUT_LIMITED);
     }
 
     private static SemType fieldShape(Context cx, ShapeSupplier shapeSupplier, Field field,
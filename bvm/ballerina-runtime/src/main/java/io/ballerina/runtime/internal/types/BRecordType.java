@@ -82,6 +82,8 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
     private byte couldInhereTypeBeDifferentCache = 0;
 
     private final Map<String, BFunctionPointer> defaultValues = new LinkedHashMap<>();
+    // quoted and escaped UTF-8 encoded field names, populated as values of this type are serialized to JSON
+    private volatile Map<String, byte[]> encodedJsonFieldNames;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -250,6 +252,14 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         return defaultValues;
     }
 
+    public Map<String, byte[]> getEncodedJsonFieldNames() {
+        return encodedJsonFieldNames;
+    }
+
+    public void setEncodedJsonFieldNames(Map<String, byte[]> encodedJsonFieldNames) {
+        this.encodedJsonFieldNames = encodedJsonFieldNames;
+    }
+
     @Override
     public SemType createSemType(Context cx) {
         Env env = cx.env;
@@ -334,29 +344,33 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         } else {
             md = new MappingDefinition();
         }
-        List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
-        for (int i = 0; i < nFields; i++) {
-            String fieldName = entries[i].getKey().toString();
-            Object fieldValue = entries[i].getValue();
-            handledFields.add(fieldName);
-            fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
-        }
-        if (!takeFieldShape) {
-            getFields().values().stream()
-                    .filter(field -> !handledFields.contains(field.getFieldName()))
-                    .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
-                    .forEach(fields::add);
-        }
-        MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
-        SemType rest;
-        if (takeFieldShape) {
-            rest = Builder.getNeverType();
-        } else {
-            rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+        try {
+            List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
+            for (int i = 0; i < nFields; i++) {
+                String fieldName = entries[i].getKey().toString();
+                Object fieldValue = entries[i].getValue();
+                handledFields.add(fieldName);
+                fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
+            }
+            if (!takeFieldShape) {
+                getFields().values().stream()
+                        .filter(field -> !handledFields.contains(field.getFieldName()))
+                        .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
+                        .forEach(fields::add);
+            }
+            MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
+            SemType rest;
+            if (takeFieldShape) {
+                rest = Builder.getNeverType();
+            } else {
+                rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+            }
+            return md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
+        } finally {
+            if (takeFieldShape) {
+                value.resetReadonlyShapeDefinition();
+            }
         }
-        SemType shape = md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
-        value.resetReadonlyShapeDefinition();
-        return shape;
     }
 
     private MappingDefinition.Field fieldShapeWithoutValue(Context cx, Field field, String fieldName) {
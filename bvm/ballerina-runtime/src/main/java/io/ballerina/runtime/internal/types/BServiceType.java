@@ -17,9 +17,15 @@
 package io.ballerina.runtime.internal.types;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
 import io.ballerina.runtime.api.types.TypeTags;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * {@code BServiceType} represents a service object in Ballerina.
  *
@@ -37,6 +43,20 @@ public class BServiceType extends BNetworkObjectType implements ServiceType {
         return TypeTags.SERVICE_TAG;
     }
 
+    @Override
+    protected Map<String, MethodType> createMethodIndex() {
+        Map<String, MethodType> index = new HashMap<>();
+        for (ResourceMethodType resourceMethodType : getResourceMethods()) {
+            index.put(resourceMethodType.getName(), resourceMethodType);
+        }
+        for (RemoteMethodType remoteMethodType : getRemoteMethods()) {
+            index.put(remoteMethodType.getName(), remoteMethodType);
+        }
+        // regular methods take precedence over resource and remote methods with the same name
+        index.putAll(super.createMethodIndex());
+        return index;
+    }
+
     @Override
     public BObjectType duplicate() {
         BServiceType type = new BServiceType(this.typeName, this.pkg, this.flags);
@@ -22,7 +22,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BRefValue;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.internal.TypeConverter.ERROR_MESSAGE_UNION_END;
@@ -58,7 +58,7 @@ public final class CloneUtils {
             return value;
         }
 
-        return refValue.copy(new HashMap<>());
+        return refValue.copy(new IdentityHashMap<>());
     }
 
     /**
@@ -77,7 +77,7 @@ public final class CloneUtils {
             return value;
         }
 
-        return refValue.frozenCopy(new HashMap<>());
+        return refValue.frozenCopy(new IdentityHashMap<>());
     }
 
     public static BError createConversionError(Object value, Type targetType, List<String> errors) {
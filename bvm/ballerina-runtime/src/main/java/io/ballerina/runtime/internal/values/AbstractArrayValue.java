@@ -25,7 +25,6 @@ import io.ballerina.runtime.api.types.semtype.Builder;
 import io.ballerina.runtime.api.types.semtype.Context;
 import io.ballerina.runtime.api.types.semtype.SemType;
 import io.ballerina.runtime.api.types.semtype.ShapeAnalyzer;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
@@ -36,8 +35,6 @@ import io.ballerina.runtime.internal.types.TypeWithShape;
 import io.ballerina.runtime.internal.types.semtype.ListDefinition;
 import io.ballerina.runtime.internal.utils.IteratorUtils;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -65,7 +62,6 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getListType();
     static final int SYSTEM_ARRAY_MAX = Integer.MAX_VALUE - 8;
-    private final ThreadLocal<ListDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     /**
      * The maximum size of arrays to allocate.
@@ -163,15 +159,7 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     @Override
     public String getJSONString() {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
-            gen.serialize(this);
-            gen.flush();
-            return byteOut.toString();
-        } catch (IOException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(
-                    "Error in converting JSON to a string: " + e.getMessage()), e);
-        }
+        return JsonGenerator.toJsonString(this);
     }
 
     /**
@@ -318,21 +306,6 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
         }
     }
 
-    @Override
-    public ListDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
-    }
-
-    @Override
-    public void setReadonlyShapeDefinition(ListDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
-    }
-
-    @Override
-    public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
-    }
-
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         TypeWithShape typeWithShape = (TypeWithShape) getType();
@@ -68,7 +68,6 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
     private final BObjectType objectType;
     private final Type type;
     private SemType shape;
-    private final ThreadLocal<ObjectDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     private final HashMap<String, Object> nativeData = new HashMap<>();
 
@@ -255,19 +254,4 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
         TypeWithShape typeWithShape = (TypeWithShape) getType();
         return typeWithShape.inherentTypeOf(cx, ShapeAnalyzer::inherentTypeOf, this);
     }
-
-    @Override
-    public ObjectDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
-    }
-
-    @Override
-    public void setReadonlyShapeDefinition(ObjectDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
-    }
-
-    @Override
-    public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
-    }
 }
@@ -920,6 +920,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
+                // registered before copying the members, so that cyclic references resolve to the copy
+                refs.put(this, valueArray);
                 IntStream.range(0, this.size).forEach(i -> {
                     Object value = this.refValues[i];
                     if (value instanceof BRefValue refValue) {
@@ -928,7 +930,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                         values[i] = value;
                     }
                 });
-                break;
+                return valueArray;
         }
 
         refs.put(this, valueArray);
@@ -31,45 +31,48 @@ public class BmpStringValue extends StringValue {
         super(value, false);
     }
 
+    BmpStringValue(StringConcatBuffer buffer, int length) {
+        super(buffer, length, false);
+    }
+
     @Override
     public int getCodePoint(int index) {
-        return value.charAt(index);
+        return getValue().charAt(index);
     }
 
     @Override
     public int length() {
-        return value.length();
+        return charLength();
     }
 
     @Override
-    public BString concat(BString str) {
-        StringValue stringValue = (StringValue) str;
-        if (stringValue.isNonBmp) {
-            int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+    protected BString concatValues(StringValue other) {
+        if (other.isNonBmp) {
+            int[] otherSurrogates = ((NonBmpStringValue) other).getSurrogates();
             int[] newSurrogates = new int[otherSurrogates.length];
             int length = length();
             for (int i = 0; i < otherSurrogates.length; i++) {
                 newSurrogates[i] = otherSurrogates[i] + length;
             }
-            return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+            return new NonBmpStringValue(getValue() + other.getValue(), newSurrogates);
         }
-        return new BmpStringValue(this.value + str.getValue());
+        return new BmpStringValue(getValue() + other.getValue());
     }
 
     @Override
     public Long indexOf(BString str, int fromIndex) {
-        long index = value.indexOf(str.getValue(), fromIndex);
+        long index = getValue().indexOf(str.getValue(), fromIndex);
         return index >= 0 ? index : null;
     }
 
     @Override
     public Long lastIndexOf(BString str, int fromIndex) {
-        long index = value.lastIndexOf(str.getValue(), fromIndex);
+        long index = getValue().lastIndexOf(str.getValue(), fromIndex);
         return index >= 0 ? index : null;
     }
 
     @Override
     public BString substring(int beginIndex, int endIndex) {
-        return new BmpStringValue(value.substring(beginIndex, endIndex));
+        return new BmpStringValue(getValue().substring(beginIndex, endIndex));
     }
 }
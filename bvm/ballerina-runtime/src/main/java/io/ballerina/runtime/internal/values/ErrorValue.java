@@ -42,7 +42,7 @@ import io.ballerina.runtime.internal.utils.CycleUtils;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -279,7 +279,7 @@ public class ErrorValue extends BError implements RefValue {
     @Override
     public Object getDetails() {
         if (details instanceof BRefValue bRefValue) {
-            return bRefValue.frozenCopy(new HashMap<>());
+            return bRefValue.frozenCopy(new IdentityHashMap<>());
         }
         return details;
     }
@@ -57,8 +57,6 @@ import io.ballerina.runtime.internal.utils.CycleUtils;
 import io.ballerina.runtime.internal.utils.IteratorUtils;
 import io.ballerina.runtime.internal.utils.MapUtils;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -108,10 +106,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
     private SemType shape;
-    private final ThreadLocal<MappingDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -605,15 +602,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
-            gen.serialize(this);
-            gen.flush();
-            return byteOut.toString();
-        } catch (IOException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(
-                    "Error in converting JSON to a string: " + e.getMessage()), e);
-        }
+        return JsonGenerator.toJsonString(this);
     }
 
     @Override
@@ -621,21 +610,6 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return new MapIterator<>(new LinkedHashSet<>(this.entrySet()).iterator());
     }
 
-    @Override
-    public MappingDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
-    }
-
-    @Override
-    public void setReadonlyShapeDefinition(MappingDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
-    }
-
-    @Override
-    public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
-    }
-
     /**
      * {@link MapIterator} iteration provider for ballerina maps.
      *
@@ -682,7 +656,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -692,7 +666,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -709,6 +683,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        // Most values never carry native data, hence the map is only created when it is first needed
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -29,21 +29,51 @@ import java.util.Arrays;
  */
 public class NonBmpStringValue extends StringValue {
 
-    private final int[] surrogates;
+    // computed when first needed, if the string is created by a StringConcatBuffer
+    private volatile int[] surrogates;
+    private final int surrogateCount;
 
     public NonBmpStringValue(String value, int[] surrogatePairLocations) {
         super(value, true);
         surrogates = surrogatePairLocations;
+        surrogateCount = surrogatePairLocations.length;
+    }
+
+    NonBmpStringValue(StringConcatBuffer buffer, int charLength, int surrogateCount) {
+        super(buffer, charLength, true);
+        this.surrogateCount = surrogateCount;
+    }
+
+    int surrogateCount() {
+        return surrogateCount;
+    }
+
+    private int[] surrogates() {
+        int[] surrogates = this.surrogates;
+        if (surrogates == null) {
+            surrogates = new int[surrogateCount];
+            String value = getValue();
+            int count = 0;
+            for (int i = 0; count < surrogateCount; i++) {
+                if (Character.isHighSurrogate(value.charAt(i))) {
+                    surrogates[count] = i - count;
+                    count++;
+                }
+            }
+            this.surrogates = surrogates;
+        }
+        return surrogates;
     }
 
    @Override
    public int getCodePoint(int index) {
-       if ((index < 0) || (index >= value.length() - surrogates.length)) {
+       if ((index < 0) || (index >= length())) {
            throw new StringIndexOutOfBoundsException(index);
        }
 
+       String value = getValue();
        int offset = index;
-       for (int surrogate : surrogates) {
+       for (int surrogate : surrogates()) {
            if (surrogate < index) {
                offset++;
            } else if (surrogate > index) {
@@ -57,30 +87,31 @@ public class NonBmpStringValue extends StringValue {
 
    @Override
    public int length() {
-       return value.length() - surrogates.length;
+       return charLength() - surrogateCount;
    }
 
    @Override
-   public BString concat(BString str) {
-       StringValue stringValue = (StringValue) str;
-       if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
-           int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+   protected BString concatValues(StringValue other) {
+       if (other.isNonBmp) {
+           int[] surrogates = surrogates();
+           int[] otherSurrogates = ((NonBmpStringValue) other).surrogates();
+           int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
            int length = length();
-           for (int i = 0; i < other.surrogates.length; i++) {
-               both[i + surrogates.length] = other.surrogates[i] + length;
+           for (int i = 0; i < otherSurrogates.length; i++) {
+               both[i + surrogates.length] = otherSurrogates[i] + length;
            }
-           return new NonBmpStringValue(this.value + other.value, both);
+           return new NonBmpStringValue(getValue() + other.getValue(), both);
        }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       return new NonBmpStringValue(getValue() + other.getValue(), surrogates());
    }
 
     public int[] getSurrogates() {
-        return surrogates.clone();
+        return surrogates().clone();
     }
 
     @Override
     public Long indexOf(BString str, int fromIndex) {
+        String value = getValue();
         int offset = getOffset(fromIndex);
         long index = value.indexOf(str.getValue(), offset);
         if (index < 0) {
@@ -97,6 +128,7 @@ public class NonBmpStringValue extends StringValue {
 
     @Override
     public Long lastIndexOf(BString str, int fromIndex) {
+        String value = getValue();
         int offset = getOffset(fromIndex);
         long index = value.lastIndexOf(str.getValue(), offset);
         if (index < 0) {
@@ -114,12 +146,12 @@ public class NonBmpStringValue extends StringValue {
     public BString substring(int beginIndex, int endIndex) {
         int beginOffset = getOffset(beginIndex);
         int endOffset = getOffset(endIndex);
-        return StringUtils.fromString(value.substring(beginOffset, endOffset));
+        return StringUtils.fromString(getValue().substring(beginOffset, endOffset));
     }
 
     private int getOffset(int fromIndex) {
         int offset = fromIndex;
-        for (int surrogate : surrogates) {
+        for (int surrogate : surrogates()) {
             if (surrogate < fromIndex) {
                 offset++;
             } else {
@@ -20,8 +20,15 @@ package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.semtype.Definition;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * Every value that can contain a recursive reference should implement this interface.
+ * <p>
+ * The definition attached to a value is only needed while the shape of the value is being computed, and it is
+ * specific to the computing thread. Instead of each value holding a {@link ThreadLocal} of its own, the definitions
+ * of all the values are kept in a single thread local map which is only populated during shape computation.
  *
  * @param <E> Type of the definition
  *
@@ -29,9 +36,39 @@ import io.ballerina.runtime.api.types.semtype.Definition;
  */
 interface RecursiveValue<E extends Definition> {
 
-    E getReadonlyShapeDefinition();
+    default E getReadonlyShapeDefinition() {
+        Map<RecursiveValue<?>, Definition> definitions = ReadonlyShapeDefinitions.DEFINITIONS.get();
+        return definitions == null ? null : (E) definitions.get(this);
+    }
+
+    default void setReadonlyShapeDefinition(E definition) {
+        Map<RecursiveValue<?>, Definition> definitions = ReadonlyShapeDefinitions.DEFINITIONS.get();
+        if (definitions == null) {
+            definitions = new IdentityHashMap<>();
+            ReadonlyShapeDefinitions.DEFINITIONS.set(definitions);
+        }
+        definitions.put(this, definition);
+    }
+
+    default void resetReadonlyShapeDefinition() {
+        Map<RecursiveValue<?>, Definition> definitions = ReadonlyShapeDefinitions.DEFINITIONS.get();
+        if (definitions == null) {
+            return;
+        }
+        definitions.remove(this);
+        if (definitions.isEmpty()) {
+            ReadonlyShapeDefinitions.DEFINITIONS.remove();
+        }
+    }
+
+    /**
+     * Holder of the per-thread definitions attached to values.
+     */
+    final class ReadonlyShapeDefinitions {
 
-    void setReadonlyShapeDefinition(E definition);
+        private static final ThreadLocal<Map<RecursiveValue<?>, Definition>> DEFINITIONS = new ThreadLocal<>();
 
-    void resetReadonlyShapeDefinition();
+        private ReadonlyShapeDefinitions() {
+        }
+    }
 }
@@ -24,12 +24,14 @@ import io.ballerina.runtime.api.types.semtype.SemType;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.types.semtype.RegexUtils;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 
@@ -50,6 +52,8 @@ public class RegExpValue implements BRegexpValue, RefValue {
     private BTypedesc typedesc;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
     private final SemType shape;
+    private volatile String translatedPattern;
+    private volatile Pattern pattern;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
         this.regExpDisjunction = regExpDisjunction;
@@ -61,6 +65,40 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the regular expression translated to the Java regular expression syntax. Since a regular expression
+     * value is immutable, the translation is done only once.
+     *
+     * @return translated regular expression
+     */
+    public String getTranslatedPattern() {
+        String translated = this.translatedPattern;
+        if (translated == null) {
+            synchronized (this) {
+                translated = this.translatedPattern;
+                if (translated == null) {
+                    translated = RegExpFactory.translateRegExpConstructs(this).stringValue(null);
+                    this.translatedPattern = translated;
+                }
+            }
+        }
+        return translated;
+    }
+
+    /**
+     * Returns the compiled Java pattern of the regular expression.
+     *
+     * @return compiled pattern
+     */
+    public Pattern getPattern() {
+        Pattern compiled = this.pattern;
+        if (compiled == null) {
+            compiled = RegExpFactory.getPattern(getTranslatedPattern());
+            this.pattern = compiled;
+        }
+        return compiled;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only buffer shared by the strings created by repeatedly concatenating to a string. Each such string is a
+ * prefix of the buffer, identified by its length, and only the string which covers the whole buffer can append to it.
+ * Therefore, building a string by concatenating fragments in a loop costs linear time instead of quadratic time. The
+ * content of a string is copied out of the buffer only when it is first needed.
+ * <p>
+ * The buffer is guarded by a {@link ReentrantLock} rather than a monitor, so that a strand waiting for it does not pin
+ * the carrier thread of its virtual thread.
+ *
+ * @since 2201.13.0
+ */
+final class StringConcatBuffer {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final StringBuilder chars;
+    private int surrogateCount;
+
+    StringConcatBuffer(StringValue prefix) {
+        String value = prefix.getValue();
+        this.chars = new StringBuilder(value.length() * 2);
+        this.chars.append(value);
+        this.surrogateCount = prefix.isNonBmp ? ((NonBmpStringValue) prefix).surrogateCount() : 0;
+    }
+
+    /**
+     * Appends the suffix to the buffer if the prefix covers the whole buffer.
+     *
+     * @param prefix string which is a prefix of this buffer
+     * @param suffix string to be appended
+     * @return the concatenated string, or null if the buffer has already been extended beyond the prefix
+     */
+    StringValue append(StringValue prefix, StringValue suffix) {
+        // the suffix may be held in another buffer, which is not locked while this one is
+        String suffixValue = suffix.getValue();
+        lock.lock();
+        try {
+            if (this.chars.length() != prefix.charLength()) {
+                return null;
+            }
+            if (suffix.isNonBmp) {
+                this.surrogateCount += ((NonBmpStringValue) suffix).surrogateCount();
+            }
+            this.chars.append(suffixValue);
+            int charLength = this.chars.length();
+            if (this.surrogateCount == 0) {
+                return new BmpStringValue(this, charLength);
+            }
+            return new NonBmpStringValue(this, charLength, this.surrogateCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String getValue(int charLength) {
+        lock.lock();
+        try {
+            return this.chars.substring(0, charLength);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -44,17 +44,69 @@ public abstract class StringValue implements BString, SimpleValue {
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getStringType();
     private static final BStringType STRING_TYPE =
             new BStringType(TypeConstants.STRING_TNAME, new Module(null, null, null));
-    final String value;
+    // concatenations resulting in strings shorter than this copy both strings instead of using a StringConcatBuffer
+    private static final int MIN_BUFFERED_CONCAT_LENGTH = 128;
+
+    // Both fields are final, so that a string is safely published to other strands. Exactly one of them is null.
+    private final String value;
+    private final StringConcatBuffer buffer;
+    // content of a string held in a concat buffer, null until first needed
+    private volatile String bufferedValue;
+    private final int charLength;
     final boolean isNonBmp;
     private BStringType type;
     private boolean shapeCalculated = false;
 
     protected StringValue(String value, boolean isNonBmp) {
         this.value = value;
+        this.buffer = null;
+        this.charLength = value.length();
         this.isNonBmp = isNonBmp;
         this.type = STRING_TYPE;
     }
 
+    StringValue(StringConcatBuffer buffer, int charLength, boolean isNonBmp) {
+        this.value = null;
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.isNonBmp = isNonBmp;
+        this.type = STRING_TYPE;
+    }
+
+    /**
+     * Returns the number of UTF-16 chars in the string, without copying it out of a concat buffer.
+     *
+     * @return the length of the string in chars
+     */
+    final int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public final BString concat(BString str) {
+        StringValue other = (StringValue) str;
+        if (charLength + other.charLength < MIN_BUFFERED_CONCAT_LENGTH) {
+            return concatValues(other);
+        }
+        StringConcatBuffer concatBuffer = this.buffer;
+        if (concatBuffer != null) {
+            StringValue result = concatBuffer.append(this, other);
+            if (result != null) {
+                return result;
+            }
+        }
+        // either the string is not in a buffer, or another string has been concatenated to it already
+        return new StringConcatBuffer(this).append(this, other);
+    }
+
+    /**
+     * Returns the concatenation of this string and the given string, by copying both.
+     *
+     * @param other string to be concatenated
+     * @return the concatenated string
+     */
+    protected abstract BString concatValues(StringValue other);
+
     @Override
     public Type getType() {
         return type;
@@ -77,12 +129,22 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String getValue() {
-        return value;
+        String str = this.value;
+        if (str != null) {
+            return str;
+        }
+        str = this.bufferedValue;
+        if (str == null) {
+            // strands racing here copy the same content out of the buffer
+            str = this.buffer.getValue(charLength);
+            this.bufferedValue = str;
+        }
+        return str;
     }
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -97,12 +159,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -111,7 +173,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString bString) {
-            return bString.getValue().equals(value);
+            return bString.getValue().equals(getValue());
         }
         return false;
     }
@@ -119,7 +181,7 @@ public abstract class StringValue implements BString, SimpleValue {
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BStringType.singletonType(value);
+            this.type = BStringType.singletonType(getValue());
         }
         return Optional.of(this.type.shape());
     }
@@ -68,7 +68,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
@@ -182,6 +181,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         TableValueImpl<K, V> clone = new TableValueImpl<>(tableType);
         clone.type = type;
+        refs.put(this, clone);
 
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
@@ -258,31 +258,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
-        }
-        return entrySet;
+        return valueHolder.entrySet();
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
-        }
-        return newValues;
+        return valueHolder.values();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        valueHolder.clear();
     }
 
     @Override
@@ -342,17 +329,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        return valueHolder.getKeys();
     }
 
     @Override
     public int size() {
-        return values().size();
+        return valueHolder.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return valueHolder.isEmpty();
     }
 
     @Override
@@ -381,8 +368,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values(), parent);
     }
 
     @Override
@@ -392,43 +378,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(Collection<V> rows, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : rows) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Collection<V> rows, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (String string : keysList) {
             keyJoiner.add(string);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (V data : rows) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -526,9 +495,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
+            if (valueHolder.containsIndex(cursor)) {
+                K key = valueHolder.getKeyAt(cursor);
+                V value = valueHolder.getValueAt(cursor);
 
                 List<Type> types = new ArrayList<>();
                 types.add(TypeChecker.getType(key));
@@ -548,12 +517,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && !values.isEmpty();
+           return valueHolder.hasIndex(cursor);
         }
     }
 
     private class ValueHolder {
 
+        // Rows of a keyless table can only be appended, so they are kept in insertion order and the position of a row
+        // is its iteration index.
+        private final List<V> rows = new ArrayList<>();
+
         public void addData(V data) {
             putData(data);
         }
@@ -570,18 +543,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue<?, ?>) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            rows.add(data);
             return data;
         }
 
@@ -598,6 +560,51 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                                            StringUtils.fromString("keys are not defined"));
         }
+
+        public Collection<V> values() {
+            return new ArrayList<>(rows);
+        }
+
+        public Set<Map.Entry<K, V>> entrySet() {
+            LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+            for (V row : rows) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) row, row));
+            }
+            return entrySet;
+        }
+
+        public K[] getKeys() {
+            return (K[]) rows.toArray();
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+
+        public void clear() {
+            rows.clear();
+        }
+
+        // Returns whether there can be rows at or after the given iteration index
+        public boolean hasIndex(long index) {
+            return index < rows.size();
+        }
+
+        public boolean containsIndex(long index) {
+            return index < rows.size();
+        }
+
+        public K getKeyAt(long index) {
+            return (K) rows.get((int) index);
+        }
+
+        public V getValueAt(long index) {
+            return rows.get((int) index);
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
@@ -770,6 +777,72 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return keyType;
         }
 
+        @Override
+        public Collection<V> values() {
+            ArrayList<V> newValues = new ArrayList<>();
+            for (List<V> valueList : values.values()) {
+                newValues.addAll(valueList);
+            }
+            return newValues;
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+            for (List<Map.Entry<K, V>> entry : entries.values()) {
+                entrySet.addAll(entry);
+            }
+            return entrySet;
+        }
+
+        @Override
+        public K[] getKeys() {
+            return (K[]) indexToKeyMap.values().toArray();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (List<V> valueList : values.values()) {
+                size += valueList.size();
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+            values.clear();
+            keyToIndexMap.clear();
+            indexToKeyMap.clear();
+            noOfAddedEntries = 0;
+        }
+
+        @Override
+        public boolean hasIndex(long index) {
+            return index < noOfAddedEntries && !values.isEmpty();
+        }
+
+        @Override
+        public boolean containsIndex(long index) {
+            return indexToKeyMap.containsKey(index);
+        }
+
+        @Override
+        public K getKeyAt(long index) {
+            return indexToKeyMap.get(index);
+        }
+
+        @Override
+        public V getValueAt(long index) {
+            return keyValues.get(indexToKeyMap.get(index));
+        }
+
         private class DefaultKeyWrapper {
 
             public DefaultKeyWrapper() {
@@ -42,8 +42,6 @@ import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -71,8 +69,13 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     private QName name;
     private XmlSequence children;
     private final AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
-    private final List<WeakReference<XmlItem>> probableParents;
+    // Keep track of probable parents of xml element to detect probable cycles in xml. The first parent is kept in a
+    // field, and the rest, which are rare, are kept in a list. Parents are kept weakly, so that an element does not
+    // keep the rest of the tree it was taken from alive, through the single weak reference each parent shares with
+    // all of its children.
+    private WeakReference<XmlItem> probableParent;
+    private List<WeakReference<XmlItem>> otherProbableParents;
+    private WeakReference<XmlItem> selfReference;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
@@ -82,7 +85,6 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
         attributes = new AttributeMapValueImpl(false);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
         this.type = PredefinedTypes.TYPE_ELEMENT;
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
@@ -110,7 +112,6 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
         attributes = new AttributeMapValueImpl(readonly);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
 
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
@@ -178,6 +179,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public void setQName(QName name) {
         this.name = name;
+        XmlSequence.elementRenamed();
     }
 
     /**
@@ -280,7 +282,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children() {
-        return new XmlSequence(new ArrayList<>(children.getChildrenList()));
+        return XmlSequence.fromMembers(children.shareChildrenList());
     }
 
     /**
@@ -361,21 +363,59 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXml child, XmlItem thisElem) {
         if (child.getNodeType() == ELEMENT) {
-            ((XmlItem) child).probableParents.add(new WeakReference<>(thisElem));
+            ((XmlItem) child).addProbableParent(thisElem);
         }
     }
 
+    private WeakReference<XmlItem> selfReference() {
+        WeakReference<XmlItem> reference = this.selfReference;
+        if (reference == null) {
+            reference = new WeakReference<>(this);
+            this.selfReference = reference;
+        }
+        return reference;
+    }
+
+    private void addProbableParent(XmlItem parent) {
+        if (this.probableParent == null || this.probableParent.refersTo(null)) {
+            this.probableParent = parent.selfReference();
+            return;
+        }
+        if (this.probableParent.refersTo(parent)) {
+            return;
+        }
+        if (this.otherProbableParents == null) {
+            this.otherProbableParents = new ArrayList<>();
+        } else {
+            this.otherProbableParents.removeIf(probableParentRef -> probableParentRef.refersTo(null));
+        }
+        this.otherProbableParents.add(parent.selfReference());
+    }
+
     private void ensureAcyclicGraph(BXml newSubTree, XmlItem current) {
-        for (WeakReference<XmlItem> probableParentRef : current.probableParents) {
+        XmlItem probableParent = current.probableParent != null ? current.probableParent.get() : null;
+        if (probableParent != null) {
+            ensureAcyclicGraph(newSubTree, current, probableParent);
+        }
+        if (current.otherProbableParents == null) {
+            return;
+        }
+        for (WeakReference<XmlItem> probableParentRef : current.otherProbableParents) {
             XmlItem parent = probableParentRef.get();
-            // probable parent is the actual parent.
-            if (parent.children.children.contains(current)) {
-                // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
-                if (parent == newSubTree) {
-                    throw createXMLCycleError();
-                }
-                ensureAcyclicGraph(newSubTree, parent);
+            if (parent != null) {
+                ensureAcyclicGraph(newSubTree, current, parent);
+            }
+        }
+    }
+
+    private void ensureAcyclicGraph(BXml newSubTree, XmlItem current, XmlItem parent) {
+        // probable parent is the actual parent.
+        if (parent.children.children.contains(current)) {
+            // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
+            if (parent == newSubTree) {
+                throw createXMLCycleError();
             }
+            ensureAcyclicGraph(newSubTree, parent);
         }
     }
 
@@ -584,20 +624,18 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
+        // the list of children may be shared with other sequences, hence it is replaced instead of being modified
         List<BXml> children = this.children.children;
-        List<Integer> toRemove = new ArrayList<>();
-        for (int i = 0; i < children.size(); i++) {
-            BXml child = children.get(i);
+        List<BXml> remaining = new ArrayList<>(children.size());
+        for (BXml child : children) {
             if (child.getNodeType() == ELEMENT && child.getElementName().equals(qname)) {
-                toRemove.add(i);
+                removeParentReference(child);
+            } else {
+                remaining.add(child);
             }
         }
-
-        Collections.reverse(toRemove);
-        for (Integer index : toRemove) {
-            BXml removed = children.remove(index.intValue());
-            removeParentReference(removed);
-        }
+        this.children.children = remaining;
+        this.children.shared = false;
     }
 
     private void setAttributes(BMap<BString, BString> attributes, SetAttributeFunction func) {
@@ -624,13 +662,11 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
 
         XmlItem item = (XmlItem) removedItem;
-        for (Iterator<WeakReference<XmlItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
-            WeakReference<XmlItem> probableParent = iterator.next();
-            XmlItem parent = probableParent.get();
-            if (parent == this) {
-                probableParent.clear();
-                iterator.remove();
-            }
+        if (item.probableParent != null && item.probableParent.refersTo(this)) {
+            item.probableParent = null;
+        }
+        if (item.otherProbableParents != null) {
+            item.otherProbableParents.removeIf(probableParentRef -> probableParentRef.refersTo(this));
         }
     }
 
@@ -684,7 +720,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        return Objects.hash(name, children, attributes);
     }
 
     /**
@@ -38,12 +38,14 @@ import io.ballerina.runtime.internal.utils.IteratorUtils;
 import io.ballerina.runtime.internal.xml.XmlFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_EMPTY_VALUE;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.XML_LANG_LIB;
@@ -61,7 +63,17 @@ import static io.ballerina.runtime.internal.TypeChecker.isEqual;
  */
 public final class XmlSequence extends XmlValue implements BXmlSequence {
 
+    // Number of times an element was renamed. An element may be a member of any number of sequences, so a rename
+    // invalidates the element indexes of all the sequences, which is cheap as renames are rare.
+    private static final AtomicLong ELEMENT_RENAME_COUNT = new AtomicLong();
+
+    // The list of children is not modified in place once it is shared with another sequence, such as the sequences
+    // returned by children() and slice(), but copied before it is modified.
     List<BXml> children;
+    // whether the list of children may be shared with another sequence
+    boolean shared;
+    // elements in the children, by their expanded names, computed when the elements are first looked up by name
+    private volatile ElementIndex elementIndex;
 
     /**
      * Create an empty xml sequence.
@@ -86,6 +98,29 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
     }
 
+    /**
+     * Create an xml sequence which shares the given list of members, which should not have adjacent text items.
+     *
+     * @param members members of the sequence
+     * @return xml sequence
+     */
+    static XmlSequence fromMembers(List<BXml> members) {
+        XmlSequence sequence = new XmlSequence(List.of());
+        sequence.children = members;
+        sequence.shared = true;
+        return sequence;
+    }
+
+    /**
+     * Returns the list of children to be shared with another sequence, after which it is no longer modified in place.
+     *
+     * @return list of children
+     */
+    List<BXml> shareChildrenList() {
+        shared = true;
+        return children;
+    }
+
     @Override
     public List<BXml> getChildrenList() {
         return children;
@@ -233,14 +268,27 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue elements(String qname) {
-        List<BXml> elementsSeq = new ArrayList<>();
-        String qnameStr = getQname(qname).toString();
-        for (BXml child : children) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
-                elementsSeq.add(child);
+        List<BXml> elementsSeq = getElementIndex().elements.get(getQname(qname).toString());
+        return fromMembers(elementsSeq != null ? elementsSeq : new ArrayList<>());
+    }
+
+    private ElementIndex getElementIndex() {
+        List<BXml> members = this.children;
+        ElementIndex index = this.elementIndex;
+        long renameCount = ELEMENT_RENAME_COUNT.get();
+        if (index != null && index.members == members && index.size == members.size() &&
+                index.renameCount == renameCount) {
+            return index;
+        }
+        Map<String, List<BXml>> elements = new HashMap<>();
+        for (BXml child : members) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                elements.computeIfAbsent(child.getElementName(), name -> new ArrayList<>(1)).add(child);
             }
         }
-        return new XmlSequence(elementsSeq);
+        index = new ElementIndex(members, members.size(), renameCount, elements);
+        this.elementIndex = index;
+        return index;
     }
 
     /**
@@ -251,7 +299,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         if (children.size() == 1) {
             return (XmlValue) children.get(0).children();
         }
-        return new XmlSequence(new ArrayList<>(children));
+        return fromMembers(shareChildrenList());
     }
 
     /**
@@ -266,13 +314,8 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
 
         for (BXml elem : this.children) {
-            XmlSequence elements = (XmlSequence) elem.children().elements(qname);
-            List<BXml> childrenList = elements.getChildrenList();
-            if (childrenList.size() == 1) {
-                selected.add(childrenList.get(0));
-            } else if (childrenList.size() > 1) {
-                selected.addAll(childrenList);
-            }
+            XmlSequence elements = (XmlSequence) elem.children(qname);
+            selected.addAll(elements.getChildrenList());
         }
 
         if (selected.size() == 1) {
@@ -304,6 +347,12 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Override
     @Deprecated
     public void addChildren(BXml xmlItem) {
+        if (shared) {
+            List<BXml> newChildren = new ArrayList<>(children.size() + 1);
+            newChildren.addAll(children);
+            children = newChildren;
+            shared = false;
+        }
         children.add(xmlItem);
 
         // If sequence contains children of same type
@@ -392,13 +441,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
                     .createError(StringUtils.fromString(("invalid indices: " + startIndex + " < " + endIndex)));
         }
 
-        int j = 0;
-        List<BXml> elementsSeq = new ArrayList<>();
-        for (int i = (int) startIndex; i < endIndex; i++) {
-            elementsSeq.add(j++, children.get(i));
-        }
-
-        return new XmlSequence(elementsSeq);
+        return fromMembers(shareChildrenList().subList((int) startIndex, (int) endIndex));
     }
 
     /**
@@ -713,4 +756,11 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
         return true;
     }
+
+    static void elementRenamed() {
+        ELEMENT_RENAME_COUNT.incrementAndGet();
+    }
+
+    private record ElementIndex(List<BXml> members, int size, long renameCount, Map<String, List<BXml>> elements) {
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.xml;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BMethodType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.utils.IteratorUtils;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Iterator object of the stream created by {@link XmlFactory#parseAsStream(Reader, String)}. Each call to the
+ * {@code next} method reads the document only up to the end of the next element at the path and builds only that
+ * element, hence the memory needed does not depend on the number of elements in the document.
+ *
+ * @since 2201.13.0
+ */
+public final class XmlElementStreamIterator extends AbstractObjectValue {
+
+    private static final String NEXT = "next";
+    private static final String CLOSE = "close";
+    private static final String ITERATOR_TYPE_NAME = "XmlElementIterator";
+
+    private final Reader reader;
+    private final QName[] path;
+    private final RecordType nextReturnType;
+    private XmlTreeBuilder treeBuilder;
+    private boolean ended;
+
+    XmlElementStreamIterator(Reader reader, QName[] path, Type elementType, Type completionType) {
+        super(createIteratorType(elementType, completionType));
+        this.reader = reader;
+        this.path = path;
+        this.nextReturnType = IteratorUtils.createIteratorNextReturnType(elementType);
+    }
+
+    private static BObjectType createIteratorType(Type elementType, Type completionType) {
+        BObjectType iteratorType = new BObjectType(ITERATOR_TYPE_NAME, null, SymbolFlags.ISOLATED);
+        long methodFlags = SymbolFlags.PUBLIC | SymbolFlags.ISOLATED;
+        Type nextReturnType = TypeCreator.createUnionType(IteratorUtils.createIteratorNextReturnType(elementType),
+                completionType);
+        BFunctionType nextFuncType = new BFunctionType(null, new Parameter[0], null, nextReturnType, methodFlags,
+                NEXT);
+        BFunctionType closeFuncType = new BFunctionType(null, new Parameter[0], null, completionType, methodFlags,
+                CLOSE);
+        iteratorType.setMethods(new MethodType[]{
+                new BMethodType(NEXT, null, iteratorType, nextFuncType, methodFlags),
+                new BMethodType(CLOSE, null, iteratorType, closeFuncType, methodFlags)
+        });
+        return iteratorType;
+    }
+
+    /**
+     * Returns the next element at the path wrapped in a record, nil when there are no more elements at the path, or
+     * an error if the document could not be read or parsed. The underlying reader is closed once the end of the
+     * document or an error is reached.
+     *
+     * @return the next element wrapped in a record, nil or an error
+     */
+    public synchronized Object next() {
+        if (this.ended) {
+            return null;
+        }
+        try {
+            if (this.treeBuilder == null) {
+                // the reader is not read until the first element is requested
+                this.treeBuilder = new XmlTreeBuilder(this.reader);
+            }
+            BXml element = this.treeBuilder.parseNextElement(this.path);
+            if (element == null) {
+                close();
+                return null;
+            }
+            return ValueCreator.createRecordValue(ValueCreator.createRecordValue(this.nextReturnType), element);
+        } catch (BError e) {
+            close();
+            return e;
+        }
+    }
+
+    /**
+     * Stops the iteration and closes the underlying reader.
+     *
+     * @return nil, or an error if the reader could not be closed
+     */
+    public synchronized Object close() {
+        if (this.ended) {
+            return null;
+        }
+        this.ended = true;
+        try {
+            if (this.treeBuilder != null) {
+                this.treeBuilder.close();
+            }
+            this.reader.close();
+            return null;
+        } catch (XMLStreamException | IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString("error in closing XML reader: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    @Deprecated
+    public Object call(Strand strand, String funcName, Object... args) {
+        return switch (funcName) {
+            case NEXT -> next();
+            case CLOSE -> close();
+            default -> throw ErrorCreator.createError(StringUtils.fromString("No such method: " + funcName));
+        };
+    }
+
+    @Override
+    @Deprecated
+    public BFuture start(Strand strand, String funcName, Object... args) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + funcName));
+    }
+
+    @Override
+    public Object get(BString fieldName) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such field: " + fieldName));
+    }
+
+    @Override
+    public void set(BString fieldName, Object value) {
+        throw ErrorCreator.createError(StringUtils.fromString("No such field: " + fieldName));
+    }
+}
@@ -18,10 +18,15 @@
 package io.ballerina.runtime.internal.xml;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
@@ -156,6 +161,69 @@ public final class XmlFactory {
         }
     }
 
+    /**
+     * Returns a stream of the elements at the given path in the XML document in the given {@link Reader}. The path
+     * is a list of element names separated by '/', starting from the root element, such as {@code /feed/entry}. A
+     * name is either a local name, which matches elements in any namespace, or an expanded name of the form
+     * {@code {namespace-uri}local-name}, and "*" matches any local name or namespace URI. The elements are read and
+     * built one at a time when they are requested from the stream, and the reader is closed once the end of the
+     * document is reached, the stream is closed, or an error occurs.
+     *
+     * @param reader      reader which contains the XML document
+     * @param elementPath path of the elements to be read
+     * @return stream of the elements at the path, which completes with an error if the document cannot be parsed
+     */
+    public static BStream parseAsStream(Reader reader, String elementPath) {
+        Type completionType = TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(PredefinedTypes.TYPE_XML, completionType),
+                new XmlElementStreamIterator(reader, parseElementPath(elementPath), PredefinedTypes.TYPE_XML,
+                        completionType));
+    }
+
+    private static QName[] parseElementPath(String elementPath) {
+        List<QName> path = new ArrayList<>();
+        int start = elementPath.startsWith("/") ? 1 : 0;
+        int length = elementPath.length();
+        while (start < length) {
+            int end = start;
+            if (elementPath.charAt(start) == '{') {
+                // namespace URIs may contain '/'
+                end = elementPath.indexOf('}', start);
+                if (end < 0) {
+                    throw createInvalidElementPathError(elementPath);
+                }
+            }
+            end = elementPath.indexOf('/', end);
+            if (end < 0) {
+                end = length;
+            }
+            path.add(parseElementName(elementPath, elementPath.substring(start, end)));
+            start = end + 1;
+        }
+        if (path.isEmpty() || elementPath.endsWith("/")) {
+            throw createInvalidElementPathError(elementPath);
+        }
+        return path.toArray(new QName[0]);
+    }
+
+    private static QName parseElementName(String elementPath, String name) {
+        String namespaceURI = XmlTreeBuilder.ANY_NAME;
+        String localName = name;
+        if (name.startsWith("{")) {
+            int namespaceEnd = name.indexOf('}');
+            namespaceURI = name.substring(1, namespaceEnd);
+            localName = name.substring(namespaceEnd + 1);
+        }
+        if (localName.isEmpty()) {
+            throw createInvalidElementPathError(elementPath);
+        }
+        return new QName(namespaceURI, localName);
+    }
+
+    private static BError createInvalidElementPathError(String elementPath) {
+        return ErrorCreator.createError(StringUtils.fromString("invalid XML element path: '" + elementPath + "'"));
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
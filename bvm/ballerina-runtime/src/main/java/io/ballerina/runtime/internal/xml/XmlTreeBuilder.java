@@ -62,6 +62,8 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
  */
 public class XmlTreeBuilder {
 
+    public static final String ANY_NAME = "*";
+
     // XMLInputFactory2
     private static final XMLInputFactory XML_INPUT_FACTORY;
 
@@ -74,6 +76,9 @@ public class XmlTreeBuilder {
     private final Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private final Deque<BXmlSequence> seqDeque;
     private final Deque<List<BXml>> siblingDeque;
+    // number of open elements, and the number of them which match the path, when reading the elements at a path
+    private int depth;
+    private int matchedDepth;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
@@ -115,32 +120,14 @@ public class XmlTreeBuilder {
                     next = xmlStreamReader.next();
                 }
                 switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                        readCData(xmlStreamReader);
-                        break;
                     case CHARACTERS:
                         readText(xmlStreamReader);
                         readNext = true;
                         break;
                     case END_DOCUMENT:
                         return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
                     default:
-                        assert false;
+                        readNode(next);
                 }
             }
         } catch (Exception e) {
@@ -150,6 +137,105 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Reads up to the next element at the given path and builds only that element. The content which is not within
+     * an element at the path is skipped without building it, hence this can be called repeatedly to read the
+     * elements at the path one at a time.
+     *
+     * @param path names of the elements from the root element to the elements to be read. A namespace URI or a
+     *             local name of "*" matches any namespace URI or local name.
+     * @return the next element at the path, or null if the end of the document has been reached
+     */
+    public BXml parseNextElement(QName[] path) {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (matchedDepth == depth && depth < path.length &&
+                                matches(path[depth], xmlStreamReader.getName())) {
+                            if (depth == path.length - 1) {
+                                return readElementTree();
+                            }
+                            matchedDepth++;
+                        }
+                        depth++;
+                        break;
+                    case END_ELEMENT:
+                        depth--;
+                        matchedDepth = Math.min(matchedDepth, depth);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        return null;
+    }
+
+    private static boolean matches(QName pattern, QName name) {
+        String namespaceURI = pattern.getNamespaceURI();
+        String localPart = pattern.getLocalPart();
+        return (namespaceURI.equals(ANY_NAME) || namespaceURI.equals(name.getNamespaceURI())) &&
+                (localPart.equals(ANY_NAME) || localPart.equals(name.getLocalPart()));
+    }
+
+    private BXml readElementTree() throws XMLStreamException {
+        List<BXml> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+        int treeDepth = siblingDeque.size();
+        readElement(xmlStreamReader);
+        boolean readNext = false;
+        while (siblingDeque.size() > treeDepth) {
+            int next = readNext ? xmlStreamReader.getEventType() : xmlStreamReader.next();
+            readNext = false;
+            if (next == CHARACTERS) {
+                readText(xmlStreamReader);
+                readNext = true;
+            } else {
+                readNode(next);
+            }
+        }
+        endElement();
+        return siblings.get(0);
+    }
+
+    private void readNode(int next) {
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+                readCData(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
+    /**
+     * Releases the resources of the underlying stream reader. The source reader is not closed.
+     *
+     * @throws XMLStreamException if the stream reader could not be closed
+     */
+    public void close() throws XMLStreamException {
+        xmlStreamReader.close();
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -38,15 +38,13 @@ import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
@@ -81,15 +79,18 @@ public class TransactionResourceManager {
     public static final String TRANSACTION_CLEANUP_TIMEOUT_KEY = "transactionCleanupTimeout";
 
     private static final Logger LOG = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private final Map<String, List<BallerinaTransactionContext>> resourceRegistry = new HashMap<>();
-    private Map<String, Transaction> trxRegistry;
-    private Map<String, Xid> xidRegistry;
-
-    private final Map<String, List<BFunctionPointer>> committedFuncRegistry = new HashMap<>();;
-    private final Map<String, List<BFunctionPointer>> abortedFuncRegistry = new HashMap<>();;
-
-    private final Set<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
-    private final Set<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
+    // registries are accessed by the strands of all the transactions concurrently
+    private final Map<TransactionKey, List<BallerinaTransactionContext>> resourceRegistry =
+            new ConcurrentHashMap<>();
+    private Map<TransactionKey, Transaction> trxRegistry;
+    private Map<TransactionKey, Xid> xidRegistry;
+
+    // handlers are kept per global transaction id, and removed together once they are dispatched
+    private final Map<String, List<BFunctionPointer>> committedFuncRegistry = new ConcurrentHashMap<>();
+    private final Map<String, List<BFunctionPointer>> abortedFuncRegistry = new ConcurrentHashMap<>();
+
+    private final Set<String> failedResourceParticipantSet = ConcurrentHashMap.newKeySet();
+    private final Set<String> failedLocalParticipantSet = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<String, Set<String>> localParticipants = new ConcurrentHashMap<>();
 
     private final boolean transactionManagerEnabled;
@@ -100,11 +101,11 @@ public class TransactionResourceManager {
     private TransactionResourceManager() {
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
+            trxRegistry = new ConcurrentHashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
         } else {
-            xidRegistry = new HashMap<>();
+            xidRegistry = new ConcurrentHashMap<>();
         }
     }
 
@@ -233,8 +234,8 @@ public class TransactionResourceManager {
      * @param txContext          ballerina transaction context which includes the underlying connection info
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
+        resourceRegistry.computeIfAbsent(key, resourceList -> new CopyOnWriteArrayList<>()).add(txContext);
     }
 
     /**
@@ -245,7 +246,8 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>())
+                    .add(fpValue);
         }
     }
 
@@ -257,7 +259,8 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>())
+                    .add(fpValue);
         }
     }
 
@@ -288,10 +291,10 @@ public class TransactionResourceManager {
         if (transactionManagerEnabled) {
             return true;
         }
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
+        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(key);
         if (txContextList != null) {
-            Xid xid = xidRegistry.get(combinedId);
+            Xid xid = xidRegistry.get(key);
             for (BallerinaTransactionContext ctx : txContextList) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
@@ -311,7 +314,7 @@ public class TransactionResourceManager {
             // resource participant reported failure.
             status = false;
         }
-        LOG.info(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
+        LOG.info("Transaction prepare (participants): {}", status ? "success" : "failed");
         return status;
     }
 
@@ -323,12 +326,12 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(key);
         if (txContextList != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = trxRegistry.get(key);
                 try {
                     if (trx != null) {
                         trx.commit();
@@ -347,7 +350,7 @@ public class TransactionResourceManager {
                         ctx.commit();
                     } else {
                         if (xaResource != null) {
-                            Xid xid = xidRegistry.get(combinedId);
+                            Xid xid = xidRegistry.get(key);
                             xaResource.commit(xid, false);
                         } else {
                             ctx.commit();
@@ -365,8 +368,8 @@ public class TransactionResourceManager {
     }
 
     public void cleanTransaction(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        removeContextsFromRegistry(combinedId, transactionId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
+        removeContextsFromRegistry(key);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
@@ -380,13 +383,13 @@ public class TransactionResourceManager {
      * @return the status of the abort operation
      */
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(key);
 
         if (txContextList != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = trxRegistry.get(key);
                 try {
                     if (trx != null) {
                         trx.rollback();
@@ -403,7 +406,7 @@ public class TransactionResourceManager {
                     if (transactionManagerEnabled && xaResource == null) {
                         ctx.rollback();
                     } else {
-                        Xid xid = xidRegistry.get(combinedId);
+                        Xid xid = xidRegistry.get(key);
                         if (xaResource != null) {
                             ctx.getXAResource().rollback(xid);
                         } else {
@@ -423,7 +426,7 @@ public class TransactionResourceManager {
 
         // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full abort.
 
-        removeContextsFromRegistry(combinedId, transactionId);
+        removeContextsFromRegistry(key);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
@@ -439,25 +442,21 @@ public class TransactionResourceManager {
      * @param xaResource         the XA resource which participates in the transaction
      */
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            Transaction trx = trxRegistry.get(key);
             try {
                 if (trx == null) {
                     userTransactionManager.begin();
 
                     trx = userTransactionManager.getTransaction();
-                    trxRegistry.put(combinedId, trx);
+                    trxRegistry.put(key, trx);
                 }
             } catch (SystemException | NotSupportedException e) {
                 LOG.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            if (xid == null) {
-                xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
-            }
+            Xid xid = xidRegistry.computeIfAbsent(key, k -> XIDGenerator.createXID());
             try {
                 xaResource.start(xid, TMNOFLAGS);
             } catch (XAException e) {
@@ -516,15 +515,10 @@ public class TransactionResourceManager {
      * @return Array of rollback handlers
      */
     public BArray getRegisteredRollbackHandlerList() {
-        List<BFunctionPointer> abortFunctions =
-                abortedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (abortFunctions != null && !abortFunctions.isEmpty()) {
-            Collections.reverse(abortFunctions);
-            return ValueCreator.createArrayValue(abortFunctions.toArray(),
-                    TypeCreator.createArrayType(abortFunctions.get(0).getType()));
-        } else {
-            return getNillArray();
-        }
+        String globalTransactionId = Scheduler.getStrand().currentTrxContext.getGlobalTransactionId();
+        List<BFunctionPointer> abortFunctions = abortedFuncRegistry.remove(globalTransactionId);
+        committedFuncRegistry.remove(globalTransactionId);
+        return getHandlerArray(abortFunctions);
     }
 
     /**
@@ -532,15 +526,23 @@ public class TransactionResourceManager {
      * @return Array of commit handlers
      */
     public BArray getRegisteredCommitHandlerList() {
-        List<BFunctionPointer> commitFunctions =
-                committedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (commitFunctions != null && !commitFunctions.isEmpty()) {
-            Collections.reverse(commitFunctions);
-            return ValueCreator.createArrayValue(commitFunctions.toArray(),
-                    TypeCreator.createArrayType(commitFunctions.get(0).getType()));
-        } else {
+        String globalTransactionId = Scheduler.getStrand().currentTrxContext.getGlobalTransactionId();
+        List<BFunctionPointer> commitFunctions = committedFuncRegistry.remove(globalTransactionId);
+        abortedFuncRegistry.remove(globalTransactionId);
+        return getHandlerArray(commitFunctions);
+    }
+
+    private BArray getHandlerArray(List<BFunctionPointer> handlers) {
+        if (handlers == null || handlers.isEmpty()) {
             return getNillArray();
         }
+        // handlers are run in the reverse order of registration
+        int count = handlers.size();
+        Object[] handlerArray = new Object[count];
+        for (int i = 0; i < count; i++) {
+            handlerArray[i] = handlers.get(count - 1 - i);
+        }
+        return ValueCreator.createArrayValue(handlerArray, TypeCreator.createArrayType(handlers.get(0).getType()));
     }
 
     private BArray getNillArray() {
@@ -581,11 +583,11 @@ public class TransactionResourceManager {
      * @param transactionBlockId the block id of the transaction
      */
     void endXATransaction(String transactionId, String transactionBlockId, boolean abortOnly) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionKey key = TransactionKey.of(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            Transaction trx = trxRegistry.get(key);
             if (trx != null) {
-                List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+                List<BallerinaTransactionContext> txContextList = resourceRegistry.get(key);
                 if (txContextList != null) {
                     for (BallerinaTransactionContext ctx : txContextList) {
                         try {
@@ -601,8 +603,8 @@ public class TransactionResourceManager {
                 }
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+            Xid xid = xidRegistry.get(key);
+            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(key);
             if (xid != null && txContextList != null) {
                 for (BallerinaTransactionContext ctx : txContextList) {
                     try {
@@ -618,23 +620,15 @@ public class TransactionResourceManager {
         }
     }
 
-    private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
-        resourceRegistry.remove(transactionCombinedId);
+    private void removeContextsFromRegistry(TransactionKey key) {
+        resourceRegistry.remove(key);
         if (transactionManagerEnabled) {
-            trxRegistry.remove(transactionCombinedId);
+            trxRegistry.remove(key);
         } else {
-            xidRegistry.remove(transactionCombinedId);
+            xidRegistry.remove(key);
         }
     }
 
-    private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
-        if (transactionBlockId.contains("_")) {
-            // remove the strand id from the transaction block id
-            return transactionBlockId.split("_")[0];
-        }
-        return transactionId + ":" + transactionBlockId;
-    }
-
     public void notifyResourceFailure(String gTransactionId) {
         failedResourceParticipantSet.add(gTransactionId);
         // The resource excepted (uncaught).
@@ -649,11 +643,24 @@ public class TransactionResourceManager {
     }
 
     public Object getTransactionRecord(BArray xid) {
-        synchronized (transactionInfoMap) {
-            if (transactionInfoMap.containsKey(ByteBuffer.wrap(xid.getBytes()))) {
-                return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
+        return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
+    }
+
+    /**
+     * Key of the registries of a transaction block.
+     *
+     * @param transactionId      the global transaction id, or null if the block id identifies the transaction
+     * @param transactionBlockId the block id of the transaction
+     */
+    private record TransactionKey(String transactionId, String transactionBlockId) {
+
+        static TransactionKey of(String transactionId, String transactionBlockId) {
+            int strandIdIndex = transactionBlockId.indexOf('_');
+            if (strandIdIndex >= 0) {
+                // remove the strand id from the transaction block id
+                return new TransactionKey(null, transactionBlockId.substring(0, strandIdIndex));
             }
-            return null;
+            return new TransactionKey(transactionId, transactionBlockId);
         }
     }
 }
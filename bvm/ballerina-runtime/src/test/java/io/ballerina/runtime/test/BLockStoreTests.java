@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.lock.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Test cases for {@link BLockStore}.
+ */
+public class BLockStoreTests {
+
+    private final Scheduler scheduler = new Scheduler(null);
+    private final BLockStore lockStore = new BLockStore();
+
+    @Test
+    public void testUncontendedLock() {
+        Strand strand = new Strand(scheduler, "strand", null, false, null, null);
+        strand.resume();
+        try {
+            long acquisitions = BLockStore.getLockAcquisitionCount();
+            long contendedAcquisitions = BLockStore.getContendedLockAcquisitionCount();
+
+            lockStore.lock(strand, "uncontended");
+            lockStore.lock(strand, "uncontended");
+            Assert.assertEquals(strand.acquiredLockCount, 2);
+            // the global lock of the non-isolated strand is kept while taking a free lock
+            Assert.assertEquals(scheduler.globalNonIsolatedLock.getHoldCount(), 1);
+            lockStore.unlock(strand, "uncontended");
+            lockStore.unlock(strand, "uncontended");
+            Assert.assertEquals(strand.acquiredLockCount, 0);
+            Assert.assertEquals(scheduler.globalNonIsolatedLock.getHoldCount(), 1);
+
+            Assert.assertTrue(BLockStore.getLockAcquisitionCount() >= acquisitions + 2);
+            Assert.assertEquals(BLockStore.getContendedLockAcquisitionCount(), contendedAcquisitions);
+        } finally {
+            strand.done();
+        }
+    }
+
+    @Test
+    public void testContendedLock() throws InterruptedException {
+        ReentrantLock lock = new ReentrantLock();
+        long contendedAcquisitions = BLockStore.getContendedLockAcquisitionCount();
+        AtomicInteger acquiredLockCount = new AtomicInteger(-1);
+        lock.lock();
+        Thread thread;
+        try {
+            thread = new Thread(() -> {
+                Strand strand = new Strand(scheduler, "waiting", null, false, null, null);
+                strand.resume();
+                lockStore.lock(strand, lock);
+                // the global lock is taken back once the lock is acquired
+                if (strand.isRunnable()) {
+                    acquiredLockCount.set(strand.acquiredLockCount);
+                }
+                lockStore.unlock(strand, lock);
+                strand.done();
+            });
+            thread.start();
+            while (!lock.hasQueuedThread(thread)) {
+                Thread.sleep(10);
+            }
+            // the waiting strand releases the global lock so that other non-isolated strands can run
+            Assert.assertTrue(scheduler.globalNonIsolatedLock.tryLock());
+            scheduler.globalNonIsolatedLock.unlock();
+        } finally {
+            lock.unlock();
+        }
+        thread.join();
+
+        Assert.assertEquals(acquiredLockCount.get(), 1);
+        Assert.assertTrue(BLockStore.getContendedLockAcquisitionCount() >= contendedAcquisitions + 1);
+    }
+}
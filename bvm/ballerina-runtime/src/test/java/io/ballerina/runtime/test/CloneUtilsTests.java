@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.CloneUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link CloneUtils}.
+ */
+public class CloneUtilsTests {
+
+    private static final BString KEY = StringUtils.fromString("key");
+
+    @Test
+    public void testCloneEqualValues() {
+        BArray list = createList();
+        list.append(createMap(1L));
+        list.append(createMap(1L));
+
+        BArray clone = (BArray) CloneUtils.cloneValue(list);
+        Assert.assertNotSame(clone.get(0), clone.get(1));
+        Assert.assertNotSame(clone.get(0), list.get(0));
+        ((BMap<BString, Object>) clone.get(0)).put(KEY, 2L);
+        Assert.assertEquals(((BMap<?, ?>) clone.get(1)).get(KEY), 1L);
+
+        BArray sharedList = createList();
+        BMap<BString, Object> shared = createMap(1L);
+        sharedList.append(shared);
+        sharedList.append(shared);
+        BArray sharedClone = (BArray) CloneUtils.cloneValue(sharedList);
+        Assert.assertSame(sharedClone.get(0), sharedClone.get(1));
+    }
+
+    @Test
+    public void testCloneCyclicValues() {
+        BArray list = createList();
+        list.append(list);
+        BArray clone = (BArray) CloneUtils.cloneValue(list);
+        Assert.assertNotSame(clone, list);
+        Assert.assertSame(clone.get(0), clone);
+
+        BMap<BString, Object> map = createMap(1L);
+        BArray members = createList();
+        members.append(map);
+        map.put(StringUtils.fromString("members"), members);
+        BMap<?, ?> mapClone = (BMap<?, ?>) CloneUtils.cloneValue(map);
+        Assert.assertSame(((BArray) mapClone.get(StringUtils.fromString("members"))).get(0), mapClone);
+    }
+
+    @Test
+    public void testCloneSharesImmutableValues() {
+        BMap<BString, Object> immutable = createMap(1L);
+        immutable.freezeDirect();
+        BMap<BString, Object> map = createMap(2L);
+        map.put(StringUtils.fromString("immutable"), immutable);
+
+        BMap<?, ?> clone = (BMap<?, ?>) CloneUtils.cloneValue(map);
+        Assert.assertNotSame(clone, map);
+        Assert.assertSame(clone.get(StringUtils.fromString("immutable")), immutable);
+
+        BMap<?, ?> readOnlyClone = (BMap<?, ?>) CloneUtils.cloneReadOnly(map);
+        Assert.assertTrue(readOnlyClone.isFrozen());
+        Assert.assertFalse(map.isFrozen());
+        Assert.assertSame(readOnlyClone.get(StringUtils.fromString("immutable")), immutable);
+        Assert.assertSame(CloneUtils.cloneReadOnly(readOnlyClone), readOnlyClone);
+        Assert.assertSame(CloneUtils.cloneValue(readOnlyClone), readOnlyClone);
+    }
+
+    private static BArray createList() {
+        return ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+    }
+
+    private static BMap<BString, Object> createMap(long value) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+        map.put(KEY, value);
+        return map;
+    }
+}
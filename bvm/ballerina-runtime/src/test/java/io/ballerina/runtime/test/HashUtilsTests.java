@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.query.utils.HashUtils;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link HashUtils}.
+ */
+public class HashUtilsTests {
+
+    @Test
+    public void testEqualSimpleValuesHaveEqualHashes() {
+        assertEqualWithEqualHash(1L, 1);
+        assertEqualWithEqualHash(0.0, -0.0);
+        assertEqualWithEqualHash(Double.NaN, Double.longBitsToDouble(0x7ff8000000000001L));
+        assertEqualWithEqualHash(new DecimalValue("1.0"), new DecimalValue("1.00"));
+        assertEqualWithEqualHash(StringUtils.fromString("ballerina"), StringUtils.fromString("ballerina"));
+    }
+
+    @Test
+    public void testEqualStructuredValuesHaveEqualHashes() {
+        BMap<BString, Object> lhs = ValueCreator.createMapValue();
+        lhs.put(StringUtils.fromString("id"), 1L);
+        lhs.put(StringUtils.fromString("name"), StringUtils.fromString("John"));
+        BMap<BString, Object> rhs = ValueCreator.createMapValue();
+        rhs.put(StringUtils.fromString("name"), StringUtils.fromString("John"));
+        rhs.put(StringUtils.fromString("id"), 1L);
+        assertEqualWithEqualHash(lhs, rhs);
+        assertEqualWithEqualHash(ValueCreator.createArrayValue(new long[]{1, 2, 3}),
+                ValueCreator.createArrayValue(new long[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testDifferentValuesHaveDifferentHashes() {
+        Assert.assertNotEquals(HashUtils.hash(1L), HashUtils.hash(2L));
+        Assert.assertNotEquals(HashUtils.hash(new Object[]{1L, StringUtils.fromString("a")}),
+                HashUtils.hash(new Object[]{StringUtils.fromString("a"), 1L}));
+    }
+
+    private static void assertEqualWithEqualHash(Object lhs, Object rhs) {
+        Assert.assertTrue(TypeChecker.isEqual(lhs, rhs));
+        Assert.assertEquals(HashUtils.hash(lhs), HashUtils.hash(rhs));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.query.utils.JoinKey;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link JoinKey}.
+ */
+public class JoinKeyTests {
+
+    @Test
+    public void testEqualJoinKeys() {
+        Assert.assertEquals(new JoinKey(1L), new JoinKey(1L));
+        Assert.assertEquals(new JoinKey(1L), new JoinKey(1));
+        Assert.assertEquals(new JoinKey(StringUtils.fromString("1")), new JoinKey(StringUtils.fromString("1")));
+        Assert.assertEquals(new JoinKey(new DecimalValue("2.50")), new JoinKey(new DecimalValue("2.5")));
+        Assert.assertEquals(new JoinKey(null), new JoinKey(null));
+    }
+
+    @Test
+    public void testJoinKeysOfDifferentTypesAreNotEqual() {
+        Assert.assertNotEquals(new JoinKey(1L), new JoinKey(StringUtils.fromString("1")));
+        Assert.assertNotEquals(new JoinKey(1L), new JoinKey(1.0));
+        Assert.assertNotEquals(new JoinKey(null), new JoinKey(StringUtils.fromString("")));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.json.JsonGenerator;
+import io.ballerina.runtime.internal.json.JsonParser;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test cases for {@link JsonGenerator}.
+ */
+public class JsonGeneratorTests {
+
+    @Test
+    public void testUtf8OutputMatchesWriterOutput() throws IOException {
+        Object json = JsonParser.parse("{\"name\":\"a\\\"b\\\\c/d\\te\", \"text\":\"plain/text\", " +
+                "\"unicode\":\"éक😀\", \"values\":[1, -9223372036854775808, 2.0, -2.5, 0.0, " +
+                "1.0E7, 1.0E-5, true, false, null, {}, []], \"nested\":{\"key\":{\"inner\":[]}}}");
+        String expected = "{\"name\":\"a\\\"b\\\\c\\/d\\te\", \"text\":\"plain/text\", " +
+                "\"unicode\":\"éक😀\", \"values\":[1, -9223372036854775808, 2.0, -2.5, 0.0, " +
+                "1.0E+7, 0.000010, true, false, null, {}, []], \"nested\":{\"key\":{\"inner\":[]}}}";
+
+        Assert.assertEquals(serializeToWriter(json), expected);
+        Assert.assertEquals(serializeToStream(json), expected);
+        Assert.assertEquals(JsonGenerator.toJsonString(json), expected);
+    }
+
+    @Test
+    public void testNumbers() {
+        Assert.assertEquals(JsonGenerator.toJsonString(-0.0), "-0.0");
+        Assert.assertEquals(JsonGenerator.toJsonString(9999999.0), "9999999.0");
+        Assert.assertEquals(JsonGenerator.toJsonString(-123.0), "-123.0");
+        Assert.assertEquals(JsonGenerator.toJsonString(Double.NaN), "NaN");
+        Assert.assertEquals(JsonGenerator.toJsonString(Long.MAX_VALUE), "9223372036854775807");
+        Assert.assertEquals(JsonGenerator.toJsonString(10L), "10");
+        Assert.assertEquals(JsonGenerator.toJsonString(new DecimalValue("1.50")), "1.50");
+        Assert.assertEquals(JsonGenerator.toJsonString(255), "255");
+    }
+
+    @Test
+    public void testMalformedSurrogates() throws IOException {
+        BString value = StringUtils.fromString("a\ud83db\ude00");
+        Assert.assertEquals(JsonGenerator.toJsonString(value), "\"a?b?\"");
+        Assert.assertEquals(serializeToStream(value), "\"a?b?\"");
+    }
+
+    @Test
+    public void testLongStrings() throws IOException {
+        String text = "क😀x".repeat(10_000);
+        BString value = StringUtils.fromString(text);
+        Assert.assertEquals(JsonGenerator.toJsonString(value), "\"" + text + "\"");
+        Assert.assertEquals(serializeToStream(value), "\"" + text + "\"");
+    }
+
+    @Test
+    public void testRecordFieldNames() throws IOException {
+        RecordType recordType = TypeCreator.createRecordType("Person", new Module("test", "json", "1"), 0,
+                Map.of("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", 0),
+                        "quoted\"name", TypeCreator.createField(PredefinedTypes.TYPE_INT, "quoted\"name", 0)),
+                PredefinedTypes.TYPE_JSON, false, 0);
+        BMap<BString, Object> person = ValueCreator.createRecordValue(recordType);
+        person.put(StringUtils.fromString("name"), StringUtils.fromString("John"));
+        person.put(StringUtils.fromString("quoted\"name"), 1L);
+        person.put(StringUtils.fromString("rest"), true);
+
+        String expected = "{\"name\":\"John\", \"quoted\\\"name\":1, \"rest\":true}";
+        Assert.assertEquals(JsonGenerator.toJsonString(person), expected);
+        Assert.assertEquals(serializeToStream(person), expected);
+        Assert.assertEquals(serializeToWriter(person), expected);
+
+        Map<String, byte[]> fieldNames = ((BRecordType) recordType).getEncodedJsonFieldNames();
+        Assert.assertEquals(fieldNames.keySet(), Set.of("name", "quoted\"name"));
+        Assert.assertEquals(new String(fieldNames.get("quoted\"name"), StandardCharsets.UTF_8), "\"quoted\\\"name\":");
+    }
+
+    private static String serializeToWriter(Object json) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = new JsonGenerator(writer)) {
+            gen.serialize(json);
+        }
+        return writer.toString();
+    }
+
+    private static String serializeToStream(Object json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = new JsonGenerator(out, StandardCharsets.UTF_8)) {
+            gen.serialize(json);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.internal.json.JsonParser;
+import io.ballerina.runtime.internal.values.ObjectValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link JsonParser}.
+ */
+public class JsonParserTests {
+
+    @Test
+    public void testRepeatedFieldNames() {
+        // "Aa" and "BB" have the same hash code
+        BArray values = (BArray) JsonParser.parse(
+                "[{\"Aa\":1,\"BB\":2,\"name\":\"a\"},{\"BB\":3,\"Aa\":4,\"na\\u006de\":\"b\"}]");
+        BMap<?, ?> first = (BMap<?, ?>) values.get(0);
+        BMap<?, ?> second = (BMap<?, ?>) values.get(1);
+        Assert.assertEquals(first.get(StringUtils.fromString("Aa")), 1L);
+        Assert.assertEquals(first.get(StringUtils.fromString("BB")), 2L);
+        Assert.assertEquals(second.get(StringUtils.fromString("Aa")), 4L);
+        Assert.assertEquals(second.get(StringUtils.fromString("BB")), 3L);
+        Assert.assertEquals(second.get(StringUtils.fromString("name")).toString(), "b");
+        Assert.assertEquals(values.toString(),
+                "[{\"Aa\":1,\"BB\":2,\"name\":\"a\"},{\"BB\":3,\"Aa\":4,\"name\":\"b\"}]");
+    }
+
+    @Test
+    public void testParseAsStream() {
+        BStream stream = JsonParser.parseAsStream(new StringReader(
+                " [ {\"name\":\"a,]\\\"\", \"ids\":[1, 2]}, {\"name\":\"}\", \"ids\":[]} ,{}] "),
+                PredefinedTypes.TYPE_JSON);
+        List<Object> members = readAll(stream);
+        Assert.assertEquals(members.size(), 3);
+        Assert.assertEquals(((BMap<?, ?>) members.get(0)).get(StringUtils.fromString("name")).toString(), "a,]\"");
+        Assert.assertEquals(((BMap<?, ?>) members.get(0)).get(StringUtils.fromString("ids")).toString(), "[1,2]");
+        Assert.assertEquals(members.get(1).toString(), "{\"name\":\"}\",\"ids\":[]}");
+        Assert.assertEquals(members.get(2).toString(), "{}");
+        Assert.assertNull(next(stream));
+
+        Assert.assertTrue(readAll(JsonParser.parseAsStream(new StringReader("[ ]"), PredefinedTypes.TYPE_INT))
+                .isEmpty());
+    }
+
+    @Test
+    public void testParseAsStreamWithElementType() {
+        BStream stream = JsonParser.parseAsStream(new StringReader("[1, 2, \"three\", 4]"),
+                PredefinedTypes.TYPE_INT);
+        Assert.assertEquals(next(stream), 1L);
+        Assert.assertEquals(next(stream), 2L);
+        Object error = next(stream);
+        Assert.assertTrue(error instanceof BError);
+        Assert.assertEquals(((BError) error).getMessage(), "error in parsing JSON array member at index 2");
+        Assert.assertNull(next(stream));
+
+        Assert.assertTrue(next(JsonParser.parseAsStream(new StringReader("{}"), PredefinedTypes.TYPE_JSON))
+                instanceof BError);
+        BStream unterminated = JsonParser.parseAsStream(new StringReader("[1, 2"), PredefinedTypes.TYPE_INT);
+        Assert.assertEquals(next(unterminated), 1L);
+        Assert.assertEquals(next(unterminated), 2L);
+        Assert.assertTrue(next(unterminated) instanceof BError);
+    }
+
+    @Test
+    public void testParseAsStreamReadsOnDemand() {
+        int memberCount = 100_000;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < memberCount; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+        }
+        json.append(']');
+        CountingReader reader = new CountingReader(json.toString());
+        BStream stream = JsonParser.parseAsStream(reader, PredefinedTypes.TYPE_JSON);
+
+        Assert.assertEquals(next(stream).toString(), "{\"id\":0}");
+        Assert.assertTrue(reader.charsRead < json.length() / 100);
+        Assert.assertEquals(readAll(stream).size(), memberCount - 1);
+        Assert.assertTrue(reader.closed);
+    }
+
+    private static List<Object> readAll(BStream stream) {
+        List<Object> members = new ArrayList<>();
+        Object result;
+        while ((result = nextResult(stream)) instanceof BMap<?, ?> record) {
+            members.add(record.get(StringUtils.fromString("value")));
+        }
+        Assert.assertNull(result);
+        return members;
+    }
+
+    private static Object next(BStream stream) {
+        Object result = nextResult(stream);
+        return result instanceof BMap<?, ?> record ? record.get(StringUtils.fromString("value")) : result;
+    }
+
+    private static Object nextResult(BStream stream) {
+        return ((ObjectValue) stream.getIteratorObj()).call(null, "next");
+    }
+
+    private static class CountingReader extends StringReader {
+
+        private int charsRead;
+        private boolean closed;
+
+        CountingReader(String str) {
+            super(str);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = super.read(cbuf, off, len);
+            charsRead += Math.max(read, 0);
+            return read;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            super.close();
+        }
+    }
+}
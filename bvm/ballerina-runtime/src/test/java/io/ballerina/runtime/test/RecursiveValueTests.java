@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.semtype.Context;
+import io.ballerina.runtime.api.types.semtype.Env;
+import io.ballerina.runtime.api.types.semtype.SemType;
+import io.ballerina.runtime.api.types.semtype.ShapeAnalyzer;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Test cases for the definitions attached to recursive values while their shape is computed.
+ */
+public class RecursiveValueTests {
+
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    public void testDefinitionsClearedAfterObjectShape() throws ReflectiveOperationException {
+        BObjectType objectType = new BObjectType("Person", null, 0);
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.FINAL));
+        objectType.setFields(fields);
+        objectType.setMethods(new MethodType[0]);
+        TestObjectValue object = new TestObjectValue(objectType);
+        object.set(NAME, StringUtils.fromString("Anne"));
+
+        Optional<SemType> shape = ShapeAnalyzer.shapeOf(Context.from(Env.getInstance()), object);
+        Assert.assertTrue(shape.isPresent());
+        Assert.assertNull(currentDefinitions());
+    }
+
+    @Test
+    public void testDefinitionsClearedAfterFailedShape() throws ReflectiveOperationException {
+        BMap<BString, Object> map = ValueCreator.createMapValue();
+        // a Java object has no shape
+        map.put(NAME, new Object());
+
+        Context cx = Context.from(Env.getInstance());
+        Assert.assertThrows(NoSuchElementException.class, () -> ShapeAnalyzer.shapeOf(cx, map));
+        Assert.assertNull(currentDefinitions());
+    }
+
+    private static Object currentDefinitions() throws ReflectiveOperationException {
+        Class<?> holder = Class.forName(
+                "io.ballerina.runtime.internal.values.RecursiveValue$ReadonlyShapeDefinitions");
+        java.lang.reflect.Field definitions = holder.getDeclaredField("DEFINITIONS");
+        definitions.setAccessible(true);
+        return ((ThreadLocal<?>) definitions.get(null)).get();
+    }
+
+    private static class TestObjectValue extends AbstractObjectValue {
+
+        private final Map<BString, Object> values = new HashMap<>();
+
+        TestObjectValue(BObjectType type) {
+            super(type);
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BFuture start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            return values.get(fieldName);
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+            values.put(fieldName, value);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BMethodType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.types.BRemoteMethodType;
+import io.ballerina.runtime.internal.types.BResourceMethodType;
+import io.ballerina.runtime.internal.types.BServiceType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link Scheduler}.
+ */
+public class SchedulerTests {
+
+    private final Scheduler scheduler = new Scheduler(null);
+
+    @Test
+    public void testGetObjectMethodType() {
+        BObjectType objectType = new BObjectType("Counter", null, 0);
+        MethodType increment = createMethod("increment", objectType, 0);
+        MethodType reset = createMethod("reset", objectType, 0);
+        objectType.setMethods(new MethodType[]{increment, reset});
+        Assert.assertSame(scheduler.getObjectMethodType("increment", objectType), increment);
+        Assert.assertSame(scheduler.getObjectMethodType("reset", objectType), reset);
+
+        MethodType decrement = createMethod("decrement", objectType, 0);
+        objectType.setMethods(new MethodType[]{decrement});
+        Assert.assertSame(scheduler.getObjectMethodType("decrement", objectType), decrement);
+        Assert.assertThrows(BError.class, () -> scheduler.getObjectMethodType("increment", objectType));
+    }
+
+    @Test
+    public void testGetServiceMethodType() {
+        BServiceType serviceType = new BServiceType("Service", null, SymbolFlags.SERVICE);
+        MethodType method = createMethod("get", serviceType, 0);
+        MethodType remoteMethod = new BRemoteMethodType("send", null, serviceType, createFunctionType(),
+                SymbolFlags.REMOTE);
+        ResourceMethodType resourceMethod = createResourceMethod("$get$path", serviceType);
+        ResourceMethodType shadowedResourceMethod = createResourceMethod("get", serviceType);
+        serviceType.setMethods(new MethodType[]{method, remoteMethod});
+        serviceType.setResourceMethods(new ResourceMethodType[]{resourceMethod, shadowedResourceMethod});
+
+        Assert.assertSame(scheduler.getObjectMethodType("get", serviceType), method);
+        Assert.assertSame(scheduler.getObjectMethodType("send", serviceType), remoteMethod);
+        Assert.assertSame(scheduler.getObjectMethodType("$get$path", serviceType), resourceMethod);
+        Assert.assertThrows(BError.class, () -> scheduler.getObjectMethodType("$post$path", serviceType));
+
+        ResourceMethodType postResourceMethod = createResourceMethod("$post$path", serviceType);
+        serviceType.setResourceMethods(new ResourceMethodType[]{postResourceMethod});
+        Assert.assertSame(scheduler.getObjectMethodType("$post$path", serviceType), postResourceMethod);
+    }
+
+    private static MethodType createMethod(String name, BObjectType parent, long flags) {
+        return new BMethodType(name, null, parent, createFunctionType(), flags);
+    }
+
+    private static ResourceMethodType createResourceMethod(String name, BObjectType parent) {
+        return new BResourceMethodType(name, null, parent, createFunctionType(), new Type[0], SymbolFlags.RESOURCE,
+                "get", new String[]{"path"});
+    }
+
+    private static BFunctionType createFunctionType() {
+        return new BFunctionType(null, new Parameter[0], null, PredefinedTypes.TYPE_NULL, 0, "");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link Strand}.
+ */
+public class StrandTests {
+
+    @Test
+    public void testChildStrandProperties() {
+        Strand parent = new Strand(null, "parent", null, true, null, null);
+        Assert.assertNull(parent.getProperty("key"));
+        parent.setProperty("key", "parentValue");
+
+        Strand child = new Strand(null, "child", parent, true, null, null, null);
+        Strand grandChild = new Strand(null, "grandChild", child, true, null, null, null);
+        Assert.assertEquals(child.getProperty("key"), "parentValue");
+        Assert.assertEquals(grandChild.getProperty("key"), "parentValue");
+
+        child.setProperty("key", "childValue");
+        child.setProperty("childKey", "childValue");
+        Assert.assertEquals(child.getProperty("key"), "childValue");
+        Assert.assertEquals(parent.getProperty("key"), "parentValue");
+        Assert.assertNull(parent.getProperty("childKey"));
+        Assert.assertEquals(grandChild.getProperty("key"), "parentValue");
+
+        // updates to the parent after the child is created are not visible to the child
+        parent.setProperty("key", "newParentValue");
+        parent.setProperty("parentKey", "parentValue");
+        Assert.assertEquals(parent.getProperty("key"), "newParentValue");
+        Assert.assertEquals(grandChild.getProperty("key"), "parentValue");
+        Assert.assertNull(grandChild.getProperty("parentKey"));
+    }
+
+    @Test
+    public void testGivenStrandProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "value");
+        Strand parent = new Strand(null, "parent", null, true, null, null);
+        parent.setProperty("key", "parentValue");
+
+        Strand strand = new Strand(null, "strand", parent, true, properties, null, null);
+        Assert.assertEquals(strand.getProperty("key"), "value");
+        strand.setProperty("key", "newValue");
+        Assert.assertEquals(properties.get("key"), "newValue");
+        Assert.assertEquals(parent.getProperty("key"), "parentValue");
+        Assert.assertNull(strand.trxContexts);
+    }
+}
@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,81 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRepeatedConcat() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            String fragment = i % 3 == 0 ? "x\uD83D\uDE00" + i : "ab" + i;
+            result = result.concat(StringUtils.fromString(fragment));
+            expected.append(fragment);
+        }
+        assertSameString(result, expected.toString());
+    }
+
+    @Test
+    void testConcatToIntermediateString() {
+        BString prefix = StringUtils.fromString("a".repeat(200));
+        BString first = prefix.concat(StringUtils.fromString("\uD83D\uDC7Dfirst"));
+        BString second = prefix.concat(StringUtils.fromString("second"));
+        BString third = first.concat(StringUtils.fromString("third"));
+        BString fourth = first.concat(StringUtils.fromString("\uD83D\uDEF8fourth"));
+        BString fifth = prefix.concat(third);
+
+        assertSameString(prefix, "a".repeat(200));
+        assertSameString(first, "a".repeat(200) + "\uD83D\uDC7Dfirst");
+        assertSameString(second, "a".repeat(200) + "second");
+        assertSameString(third, "a".repeat(200) + "\uD83D\uDC7Dfirstthird");
+        assertSameString(fourth, "a".repeat(200) + "\uD83D\uDC7Dfirst\uD83D\uDEF8fourth");
+        assertSameString(fifth, "a".repeat(400) + "\uD83D\uDC7Dfirstthird");
+    }
+
+    @Test
+    void testConcatenatedStringOperations() {
+        String value = "C\uD83D\uDEF8mmander ".repeat(20) + "Frav\uD83D\uDC7Dr";
+        BString flat = StringUtils.fromString(value);
+        BString result = StringUtils.fromString("C\uD83D\uDEF8mmander ".repeat(20))
+                .concat(StringUtils.fromString("Frav\uD83D\uDC7Dr"));
+        Assert.assertEquals(result.length(), 206);
+        Assert.assertEquals(result.getCodePoint(1), 0x1F6F8);
+        Assert.assertEquals(result.getCodePoint(204), 0x1F47D);
+        Assert.assertEquals(result.getCodePoint(205), 'r');
+        BString search = StringUtils.fromString("Frav");
+        Assert.assertEquals(result.indexOf(search, 0), flat.indexOf(search, 0));
+        Assert.assertEquals(result.lastIndexOf(search, 205), flat.lastIndexOf(search, 205));
+        Assert.assertEquals(result.substring(200, 206).getValue(), "Frav\uD83D\uDC7Dr");
+    }
+
+    @Test(timeOut = 30000)
+    void testConcurrentConcatOfBufferedStrings() throws InterruptedException {
+        BString first = StringUtils.fromString("a".repeat(200)).concat(StringUtils.fromString("first"));
+        BString second = StringUtils.fromString("b".repeat(200)).concat(StringUtils.fromString("second"));
+        // each thread appends the string held in the other buffer to the string held in its own buffer
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 10000; i++) {
+                first.concat(second);
+            }
+        });
+        thread.start();
+        for (int i = 0; i < 10000; i++) {
+            second.concat(first);
+        }
+        thread.join();
+
+        assertSameString(first.concat(second), "a".repeat(200) + "first" + "b".repeat(200) + "second");
+    }
+
+    private static void assertSameString(BString actual, String expected) {
+        BString flat = StringUtils.fromString(expected);
+        Assert.assertEquals(actual.length(), flat.length());
+        Assert.assertEquals(actual.getValue(), expected);
+        Assert.assertEquals(actual, flat);
+        Assert.assertEquals(actual.hashCode(), flat.hashCode());
+        for (int i = 0; i < flat.length(); i += 97) {
+            Assert.assertEquals(actual.getCodePoint(i), flat.getCodePoint(i));
+        }
+        if (flat instanceof NonBmpStringValue nonBmpString) {
+            Assert.assertEquals(((NonBmpStringValue) actual).getSurrogates(), nonBmpString.getSurrogates());
+        }
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+
+    @Test
+    public void testKeylessTableKeepsInsertionOrder() {
+        TableType tableType = TypeCreator.createTableType(TypeCreator.createMapType(PredefinedTypes.TYPE_INT), false);
+        BTable<Object, Object> table = (BTable<Object, Object>) ValueCreator.createTableValue(tableType);
+        BMap<BString, Object> duplicate = createRow(2);
+        table.add(createRow(3));
+        table.add(duplicate);
+        table.add(createRow(1));
+        table.add(duplicate);
+
+        Assert.assertEquals(table.size(), 4);
+        Assert.assertEquals(table.stringValue(null), "[{\"id\":3},{\"id\":2},{\"id\":1},{\"id\":2}]");
+        BIterator<?> iterator = table.getIterator();
+        long[] expectedIds = {3, 2, 1, 2};
+        for (long expectedId : expectedIds) {
+            Assert.assertTrue(iterator.hasNext());
+            BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+            Assert.assertEquals(row.get(ID), expectedId);
+        }
+        Assert.assertFalse(iterator.hasNext());
+
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.getIterator().hasNext());
+    }
+
+    private static BMap<BString, Object> createRow(long id) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        row.put(ID, id);
+        return row;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionLocalContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Test cases for {@link TransactionResourceManager}.
+ */
+public class TransactionResourceManagerTests {
+
+    @Test
+    public void testConcurrentTransactions() throws Exception {
+        TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+        AtomicInteger commits = new AtomicInteger();
+        int transactionCount = 2000;
+        int participantCount = 4;
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < transactionCount; i++) {
+                String transactionId = "concurrent-" + i;
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < participantCount; j++) {
+                        resourceManager.register(transactionId, "block", new CountingContext(commits));
+                    }
+                    boolean committed = resourceManager.prepare(transactionId, "block") &&
+                            resourceManager.notifyCommit(transactionId, "block");
+                    resourceManager.cleanTransaction(transactionId, "block");
+                    return committed;
+                }));
+            }
+        }
+        for (Future<Boolean> result : results) {
+            Assert.assertTrue(result.get());
+        }
+        Assert.assertEquals(commits.get(), transactionCount * participantCount);
+    }
+
+    @Test
+    public void testTransactionBlocksOfStrands() {
+        TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+        AtomicInteger commits = new AtomicInteger();
+        // block ids with a strand id identify the same transaction block irrespective of the transaction id
+        resourceManager.register("trx1", "strandBlock_1", new CountingContext(commits));
+        resourceManager.register("trx2", "strandBlock_2", new CountingContext(commits));
+        Assert.assertTrue(resourceManager.notifyCommit("trx3", "strandBlock_3"));
+        Assert.assertEquals(commits.get(), 2);
+
+        resourceManager.cleanTransaction("trx1", "strandBlock_1");
+        Assert.assertTrue(resourceManager.notifyCommit("trx1", "strandBlock"));
+        Assert.assertEquals(commits.get(), 2);
+    }
+
+    @Test
+    public void testCommitHandlers() throws ReflectiveOperationException {
+        TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+        BFunctionPointer first = handler("first");
+        BFunctionPointer second = handler("second");
+        resourceManager.registerCommittedFunction("commitTrx", first);
+        resourceManager.registerCommittedFunction("commitTrx", second);
+        resourceManager.registerAbortedFunction("commitTrx", handler("rollback"));
+
+        // commit handlers are run in the reverse order of registration
+        BArray handlers = inTransaction("commitTrx", resourceManager::getRegisteredCommitHandlerList);
+        Assert.assertEquals(handlers.size(), 2);
+        Assert.assertSame(handlers.get(0), second);
+        Assert.assertSame(handlers.get(1), first);
+
+        // the handlers of the transaction are removed once they are handed out
+        Assert.assertEquals(inTransaction("commitTrx", resourceManager::getRegisteredCommitHandlerList).size(), 0);
+        Assert.assertEquals(inTransaction("commitTrx", resourceManager::getRegisteredRollbackHandlerList).size(), 0);
+    }
+
+    @Test
+    public void testRollbackHandlers() throws ReflectiveOperationException {
+        TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+        BFunctionPointer first = handler("first");
+        BFunctionPointer second = handler("second");
+        BFunctionPointer other = handler("other");
+        resourceManager.registerAbortedFunction("rollbackTrx", first);
+        resourceManager.registerAbortedFunction("rollbackTrx", second);
+        resourceManager.registerCommittedFunction("rollbackTrx", handler("commit"));
+        resourceManager.registerAbortedFunction("otherTrx", other);
+
+        BArray handlers = inTransaction("rollbackTrx", resourceManager::getRegisteredRollbackHandlerList);
+        Assert.assertEquals(handlers.size(), 2);
+        Assert.assertSame(handlers.get(0), second);
+        Assert.assertSame(handlers.get(1), first);
+
+        Assert.assertEquals(inTransaction("rollbackTrx", resourceManager::getRegisteredRollbackHandlerList).size(), 0);
+        Assert.assertEquals(inTransaction("rollbackTrx", resourceManager::getRegisteredCommitHandlerList).size(), 0);
+        // the handlers of other transactions are kept
+        handlers = inTransaction("otherTrx", resourceManager::getRegisteredRollbackHandlerList);
+        Assert.assertEquals(handlers.size(), 1);
+        Assert.assertSame(handlers.get(0), other);
+    }
+
+    private static BFunctionPointer handler(String name) {
+        return new FPValue(args -> null, new BFunctionType(null), name, true);
+    }
+
+    private static <T> T inTransaction(String globalTransactionId, Supplier<T> supplier)
+            throws ReflectiveOperationException {
+        Strand strand = new Strand(new Scheduler(null), "transaction", null, true, null, null);
+        strand.currentTrxContext = TransactionLocalContext.create(globalTransactionId, "url", "protocol");
+        Field strandHolderField = Scheduler.class.getDeclaredField("strandHolder");
+        strandHolderField.setAccessible(true);
+        Object strandHolder = ((ThreadLocal<?>) strandHolderField.get(null)).get();
+        Field strandField = strandHolder.getClass().getDeclaredField("strand");
+        strandField.setAccessible(true);
+        Object currentStrand = strandField.get(strandHolder);
+        strandField.set(strandHolder, strand);
+        try {
+            return supplier.get();
+        } finally {
+            strandField.set(strandHolder, currentStrand);
+        }
+    }
+
+    private record CountingContext(AtomicInteger commits) implements BallerinaTransactionContext {
+
+        @Override
+        public void commit() {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.internal.values.ObjectValue;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.xml.XmlFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link XmlFactory}.
+ */
+public class XmlFactoryTests {
+
+    private static final String FEED = "<?xml version=\"1.0\"?><feed xmlns=\"http://www.w3.org/2005/Atom\">" +
+            "<title>Feed</title><entry><title>A</title><!--first--></entry><meta><entry>nested</entry></meta>" +
+            "<entry><title>B</title><link href=\"b\"/></entry><x:entry xmlns:x=\"http://x\">C</x:entry></feed>";
+
+    @Test
+    public void testParseAsStream() {
+        List<XmlItem> entries = readAll(XmlFactory.parseAsStream(new StringReader(FEED), "/feed/entry"));
+        Assert.assertEquals(entries.size(), 3);
+        Assert.assertEquals(entries.get(0).getElementName(), "{http://www.w3.org/2005/Atom}entry");
+        Assert.assertEquals(entries.get(0).getTextValue(), "A");
+        Assert.assertEquals(entries.get(0).children().size(), 2);
+        Assert.assertEquals(entries.get(1).getTextValue(), "B");
+        Assert.assertEquals(entries.get(1).children("{http://www.w3.org/2005/Atom}link").size(), 1);
+        Assert.assertEquals(entries.get(2).getElementName(), "{http://x}entry");
+        Assert.assertEquals(entries.get(2).getTextValue(), "C");
+    }
+
+    @Test
+    public void testParseAsStreamWithExpandedNames() {
+        Assert.assertEquals(readText(FEED, "{http://www.w3.org/2005/Atom}feed/{http://www.w3.org/2005/Atom}entry"),
+                List.of("A", "B"));
+        Assert.assertEquals(readText(FEED, "/feed/{http://x}entry"), List.of("C"));
+        Assert.assertEquals(readText(FEED, "/feed/*/entry"), List.of("nested"));
+        Assert.assertEquals(readText(FEED, "/feed/*/title"), List.of("A", "B"));
+        Assert.assertEquals(readText(FEED, "/*"), List.of("FeedAnestedBC"));
+        Assert.assertEquals(readText(FEED, "/entry"), List.of());
+        Assert.assertEquals(readText(FEED, "/feed/entry/title/text"), List.of());
+    }
+
+    @Test
+    public void testParseAsStreamWithMalformedDocument() {
+        BStream stream = XmlFactory.parseAsStream(new StringReader("<a><b>1</b><b>2</c></a>"), "/a/b");
+        Assert.assertEquals(((XmlItem) next(stream)).getTextValue(), "1");
+        Object error = next(stream);
+        Assert.assertTrue(error instanceof BError);
+        Assert.assertTrue(((BError) error).getErrorMessage().getValue().startsWith(XmlFactory.PARSE_ERROR_PREFIX));
+        Assert.assertNull(next(stream));
+
+        Assert.assertTrue(next(XmlFactory.parseAsStream(new StringReader(""), "/a")) instanceof BError);
+    }
+
+    @Test
+    public void testParseAsStreamWithInvalidPath() {
+        for (String path : new String[]{"", "/", "/a/", "/a//b", "/{http://x/a", "/{http://x}"}) {
+            Assert.assertThrows(BError.class, () -> XmlFactory.parseAsStream(new StringReader(FEED), path));
+        }
+    }
+
+    @Test
+    public void testParseAsStreamReadsOnDemand() {
+        int entryCount = 100_000;
+        StringBuilder xml = new StringBuilder("<feed>");
+        for (int i = 0; i < entryCount; i++) {
+            xml.append("<entry><id>").append(i).append("</id></entry>");
+        }
+        xml.append("</feed>");
+        CountingReader reader = new CountingReader(xml.toString());
+        BStream stream = XmlFactory.parseAsStream(reader, "/feed/entry");
+
+        Assert.assertEquals(((XmlItem) next(stream)).getTextValue(), "0");
+        Assert.assertTrue(reader.charsRead < xml.length() / 100);
+        Assert.assertEquals(readAll(stream).size(), entryCount - 1);
+        Assert.assertTrue(reader.closed);
+    }
+
+    @Test
+    public void testCloseStream() {
+        CountingReader reader = new CountingReader(FEED);
+        BStream stream = XmlFactory.parseAsStream(reader, "/feed/entry");
+        Assert.assertEquals(((XmlItem) next(stream)).getTextValue(), "A");
+        Assert.assertNull(((ObjectValue) stream.getIteratorObj()).call(null, "close"));
+        Assert.assertTrue(reader.closed);
+        Assert.assertNull(next(stream));
+    }
+
+    private static List<String> readText(String xml, String path) {
+        List<String> text = new ArrayList<>();
+        for (XmlItem element : readAll(XmlFactory.parseAsStream(new StringReader(xml), path))) {
+            text.add(element.getTextValue());
+        }
+        return text;
+    }
+
+    private static List<XmlItem> readAll(BStream stream) {
+        List<XmlItem> elements = new ArrayList<>();
+        Object result;
+        while ((result = nextResult(stream)) instanceof BMap<?, ?> record) {
+            elements.add((XmlItem) record.get(StringUtils.fromString("value")));
+        }
+        Assert.assertNull(result);
+        return elements;
+    }
+
+    private static Object next(BStream stream) {
+        Object result = nextResult(stream);
+        return result instanceof BMap<?, ?> record ? record.get(StringUtils.fromString("value")) : result;
+    }
+
+    private static Object nextResult(BStream stream) {
+        return ((ObjectValue) stream.getIteratorObj()).call(null, "next");
+    }
+
+    private static class CountingReader extends StringReader {
+
+        private int charsRead;
+        private boolean closed;
+
+        CountingReader(String s) {
+            super(s);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = super.read(cbuf, off, len);
+            if (read > 0) {
+                charsRead += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import io.ballerina.runtime.internal.values.XmlValue;
+import io.ballerina.runtime.internal.xml.XmlFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Test cases for {@link XmlSequence}.
+ */
+public class XmlSequenceTests {
+
+    private static final String BOOKS = "<books><book>A</book>text<author>X</author><book>B</book>" +
+            "<ns:book xmlns:ns=\"http://ns\">C</ns:book></books>";
+
+    @Test
+    public void testChildrenByName() {
+        XmlValue books = parseElement(BOOKS);
+        Assert.assertEquals(books.children("book").getTextValue(), "AB");
+        Assert.assertEquals(books.children("author").getTextValue(), "X");
+        Assert.assertEquals(books.children("{http://ns}book").getTextValue(), "C");
+        Assert.assertEquals(books.children("title").size(), 0);
+
+        XmlValue children = books.children();
+        Assert.assertEquals(children.size(), 5);
+        Assert.assertEquals(children.elements("book").getTextValue(), "AB");
+        Assert.assertEquals(children.slice(1, 3).getTextValue(), "textX");
+        Assert.assertEquals(children.slice(1, 3).elements("author").getTextValue(), "X");
+    }
+
+    @Test
+    public void testChildrenByNameAfterRename() {
+        XmlItem books = parseElement(BOOKS);
+        XmlValue children = books.children();
+        Assert.assertEquals(books.children("book").getTextValue(), "AB");
+        Assert.assertEquals(children.elements("book").getTextValue(), "AB");
+
+        // the same as lang.xml:setName
+        ((XmlItem) books.children("author").getItem(0)).setQName(new QName("book"));
+        Assert.assertEquals(books.children("book").getTextValue(), "AXB");
+        Assert.assertEquals(books.children("author").size(), 0);
+        Assert.assertEquals(children.elements("book").getTextValue(), "AXB");
+        Assert.assertEquals(children.elements("author").size(), 0);
+    }
+
+    @Test
+    public void testRemoveChildrenAfterNavigation() {
+        XmlItem books = parseElement(BOOKS);
+        XmlValue children = books.children();
+        BXml slice = children.slice(0, 2);
+        Assert.assertEquals(books.children("book").size(), 2);
+
+        books.removeChildren("book");
+        Assert.assertEquals(books.children("book").size(), 0);
+        Assert.assertEquals(books.children().getTextValue(), "textXC");
+        // sequences taken before the update are not changed
+        Assert.assertEquals(children.size(), 5);
+        Assert.assertEquals(children.elements("book").size(), 2);
+        Assert.assertEquals(slice.getTextValue(), "Atext");
+    }
+
+    @Test
+    public void testCycleDetection() {
+        XmlItem root = parseElement("<root/>");
+        XmlItem child = parseElement("<child/>");
+        XmlItem otherParent = parseElement("<other/>");
+        root.setChildren(child);
+        otherParent.setChildren(child);
+        XmlItem grandChild = parseElement("<grandChild/>");
+        child.setChildren(grandChild);
+
+        Assert.assertThrows(BError.class, () -> grandChild.setChildren(root));
+        Assert.assertThrows(BError.class, () -> grandChild.setChildren(otherParent));
+        grandChild.setChildren(parseElement("<leaf/>"));
+        Assert.assertEquals(root.descendants().size(), 3);
+    }
+
+    @Test
+    public void testAddChildrenAfterSharing() {
+        XmlSequence sequence = new XmlSequence();
+        sequence.addChildren(parseElement("<a/>"));
+        List<BXml> members = sequence.getChildrenList();
+        sequence.addChildren(parseElement("<b/>"));
+        // the list is modified in place while it is not shared
+        Assert.assertSame(sequence.getChildrenList(), members);
+
+        XmlValue children = sequence.children();
+        BXml slice = sequence.slice(0, 1);
+        sequence.addChildren(parseElement("<c/>"));
+        Assert.assertEquals(sequence.size(), 3);
+        Assert.assertEquals(children.size(), 2);
+        Assert.assertEquals(slice.size(), 1);
+
+        ((XmlSequence) children).addChildren(parseElement("<d/>"));
+        Assert.assertEquals(children.size(), 3);
+        Assert.assertEquals(sequence.size(), 3);
+    }
+
+    @Test
+    public void testChildDoesNotRetainParent() throws InterruptedException {
+        XmlItem root = parseElement("<root><child/></root>");
+        BXml child = root.children().getItem(0);
+        WeakReference<XmlItem> rootRef = new WeakReference<>(root);
+        root = null;
+        for (int i = 0; i < 10 && !rootRef.refersTo(null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(rootRef.get());
+        Assert.assertEquals(child.getElementName(), "child");
+    }
+
+    private static XmlItem parseElement(String xml) {
+        return (XmlItem) ((XmlValue) XmlFactory.parse(xml)).getItem(0);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test.semtype;
+
+import io.ballerina.runtime.api.types.semtype.CacheableTypeDescriptor;
+import io.ballerina.runtime.api.types.semtype.TypeCheckCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testCachedResults() {
+        TypeCheckCache cache = new TypeCheckCache();
+        CacheableTypeDescriptor type = typeWithId(0);
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertNull(cache.cachedTypeCheckResult(type));
+        Assert.assertTrue(TypeCheckCache.getMissCount() > misses);
+
+        cache.cacheTypeCheckResult(type, false);
+        Assert.assertEquals(cache.cachedTypeCheckResult(type), Boolean.FALSE);
+        cache.cacheTypeCheckResult(typeWithId(-1), true);
+        Assert.assertEquals(cache.cachedTypeCheckResult(typeWithId(-1)), Boolean.TRUE);
+    }
+
+    @Test
+    public void testEvictionKeepsRecentResults() {
+        TypeCheckCache cache = new TypeCheckCache();
+        CacheableTypeDescriptor frequentType = typeWithId(7);
+        cache.cacheTypeCheckResult(frequentType, true);
+        for (int id = 100; id < 10_000; id++) {
+            cache.cacheTypeCheckResult(typeWithId(id), id % 2 == 0);
+            Assert.assertEquals(cache.cachedTypeCheckResult(frequentType), Boolean.TRUE);
+        }
+        for (int id = 100; id < 10_000; id++) {
+            Boolean result = cache.cachedTypeCheckResult(typeWithId(id));
+            if (result != null) {
+                Assert.assertEquals(result.booleanValue(), id % 2 == 0);
+            }
+        }
+        Assert.assertEquals(cache.cachedTypeCheckResult(typeWithId(9_999)), Boolean.FALSE);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        TypeCheckCache cache = new TypeCheckCache();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            // the threads grow the table concurrently
+            threads[t] = new Thread(() -> {
+                for (int id = offset; id < 2_000; id += threads.length) {
+                    cache.cacheTypeCheckResult(typeWithId(id), id % 3 == 0);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int cachedCount = 0;
+        for (int id = 0; id < 2_000; id++) {
+            Boolean result = cache.cachedTypeCheckResult(typeWithId(id));
+            if (result != null) {
+                Assert.assertEquals(result.booleanValue(), id % 3 == 0);
+                cachedCount++;
+            }
+        }
+        Assert.assertTrue(cachedCount > 0);
+        cache.cacheTypeCheckResult(typeWithId(5_000), true);
+        Assert.assertEquals(cache.cachedTypeCheckResult(typeWithId(5_000)), Boolean.TRUE);
+    }
+
+    private static CacheableTypeDescriptor typeWithId(int typeId) {
+        return (CacheableTypeDescriptor) Proxy.newProxyInstance(TypeCheckCacheTests.class.getClassLoader(),
+                new Class<?>[]{CacheableTypeDescriptor.class}, (proxy, method, args) -> typeId);
+    }
+}
@@ -229,6 +229,8 @@ public class CompileTask implements Task {
             PackageCompilation packageCompilation = project.currentPackage().getCompilation();
             if (project.buildOptions().dumpBuildTime()) {
                 BuildTime.getInstance().packageCompilationDuration = System.currentTimeMillis() - start;
+                BuildTime.getInstance().compilationCacheHits = packageCompilation.compilationCacheHits();
+                BuildTime.getInstance().compilationCacheMisses = packageCompilation.compilationCacheMisses();
                 start = System.currentTimeMillis();
             }
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_21);
@@ -39,6 +39,8 @@ public class BuildTime {
     public long testingExecutionDuration;
     public long runningExecutableDuration;
     public long totalDuration;
+    public int compilationCacheHits;
+    public int compilationCacheMisses;
 
     private BuildTime() {
     }
@@ -111,6 +111,10 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public int compilationParallelism() {
+        return this.compilationOptions.compilationParallelism();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -216,6 +220,7 @@ public class BuildOptions {
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
         buildOptionsBuilder.setLockingMode(compilationOptions.lockingMode);
+        buildOptionsBuilder.setCompilationParallelism(compilationOptions.compilationParallelism);
 
         return buildOptionsBuilder.build();
     }
@@ -435,6 +440,19 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * Sets the maximum number of threads used to compile the independent parts of a package, such as the
+         * documents of a module, concurrently. The number of available processors is used by default, and 1
+         * compiles everything in the calling thread.
+         *
+         * @param value maximum number of compilation threads
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setCompilationParallelism(Integer value) {
+            compilationOptionsBuilder.setCompilationParallelism(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
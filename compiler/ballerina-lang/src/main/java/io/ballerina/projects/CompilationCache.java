@@ -42,4 +42,34 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the key of the cached compilation of the given module. The cached BIR and the platform specific
+     * libraries of a module are valid only if their key matches the current key of the module.
+     *
+     * @param moduleName name of the module
+     * @return key of the cached compilation, or empty if it is not recorded
+     */
+    public Optional<String> getCacheKey(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the key of the cached compilation of the given module, once its BIR and platform specific libraries
+     * are cached.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   key of the cached compilation
+     */
+    public void cacheKey(ModuleName moduleName, String cacheKey) {
+    }
+
+    /**
+     * Removes the key of the cached compilation of the given module, before its BIR and platform specific libraries
+     * are replaced.
+     *
+     * @param moduleName name of the module
+     */
+    public void clearCacheKey(ModuleName moduleName) {
+    }
 }
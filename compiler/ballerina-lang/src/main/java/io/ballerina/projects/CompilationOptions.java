@@ -43,6 +43,7 @@ public class CompilationOptions {
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
     String lockingMode;
+    Integer compilationParallelism;
 
     CompilationOptions(Boolean offlineBuild, Boolean experimental,
                        Boolean observabilityIncluded, Boolean dumpBir, Boolean dumpBirFile,
@@ -50,7 +51,8 @@ public class CompilationOptions {
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement, Boolean optimizeDependencyCompilation, String lockingMode) {
+                       Boolean remoteManagement, Boolean optimizeDependencyCompilation, String lockingMode,
+                       Integer compilationParallelism) {
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
@@ -71,6 +73,7 @@ public class CompilationOptions {
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
         this.lockingMode = lockingMode;
+        this.compilationParallelism = compilationParallelism;
     }
 
     public boolean offlineBuild() {
@@ -149,6 +152,18 @@ public class CompilationOptions {
         return toStringDefaultIfNull(this.lockingMode);
     }
 
+    /**
+     * Returns the maximum number of threads used to compile the independent parts of a package concurrently.
+     *
+     * @return the given parallelism, or the number of available processors if it is not given
+     */
+    public int compilationParallelism() {
+        if (this.compilationParallelism == null || this.compilationParallelism < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return this.compilationParallelism;
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -252,6 +267,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setLockingMode(this.lockingMode);
         }
+        if (theirOptions.compilationParallelism != null) {
+            compilationOptionsBuilder.setCompilationParallelism(theirOptions.compilationParallelism);
+        } else {
+            compilationOptionsBuilder.setCompilationParallelism(this.compilationParallelism);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -311,6 +331,7 @@ public class CompilationOptions {
         private Boolean optimizeDependencyCompilation;
         // TODO: remove this after fixing https://github.com/ballerina-platform/ballerina-library/issues/7755
         private String lockingMode;
+        private Integer compilationParallelism;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -412,12 +433,17 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setCompilationParallelism(Integer value) {
+            compilationParallelism = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, experimental, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation, lockingMode);
+                    optimizeDependencyCompilation, lockingMode, compilationParallelism);
         }
     }
 }
@@ -89,6 +89,19 @@ public abstract class CompilerBackend {
 
     public abstract String libraryFileExtension();
 
+    /**
+     * Writes the outputs of the given module to the compilation cache. The writes of a module are run in the order
+     * they are given, but a backend may run them in parallel with the writes of the other modules and with the
+     * compilation of the modules which follow. The compilation cache is not required to be thread-safe, hence the
+     * writes synchronize on it.
+     *
+     * @param moduleContext module the outputs belong to
+     * @param cacheWrite    task which writes the outputs to the compilation cache
+     */
+    void cacheModuleOutputs(ModuleContext moduleContext, Runnable cacheWrite) {
+        cacheWrite.run();
+    }
+
     /**
      * Represent the unique name of a supported compiler backed target.
      *
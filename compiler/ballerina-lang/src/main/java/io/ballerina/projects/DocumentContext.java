@@ -82,6 +82,13 @@ class DocumentContext {
         return this.name;
     }
 
+    String content() {
+        if (this.content != null) {
+            return this.content;
+        }
+        return new String(this.textDocument().toCharArray());
+    }
+
     SyntaxTree parse() {
         if (this.syntaxTree != null) {
             return this.syntaxTree;
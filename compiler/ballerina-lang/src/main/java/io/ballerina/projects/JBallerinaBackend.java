@@ -20,7 +20,9 @@ package io.ballerina.projects;
 import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
+import io.ballerina.projects.internal.JarAssembler;
 import io.ballerina.projects.internal.PackageDiagnostic;
+import io.ballerina.projects.internal.ParallelTasks;
 import io.ballerina.projects.internal.ProjectDiagnosticErrorCode;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.util.ProjectConstants;
@@ -28,9 +30,7 @@ import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
-import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.FilenameUtils;
 import org.ballerinalang.maven.Dependency;
@@ -44,13 +44,12 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -62,15 +61,18 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
+import java.util.stream.IntStream;
 
 import static io.ballerina.projects.util.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BIN_DIR_NAME;
@@ -108,6 +110,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    private final Map<ModuleId, CompletableFuture<Void>> moduleCacheWrites = new LinkedHashMap<>();
     List<Diagnostic> conflictedResourcesDiagnostics = new ArrayList<>();
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
@@ -159,6 +162,27 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        try {
+            generateModules(shrink, moduleDiagnostics);
+        } finally {
+            awaitCacheWrites();
+            // the threads used to write the classes and the cache are not kept once the code of all the modules is
+            // generated
+            ParallelTasks.getInstance(compilerContext).shutdown();
+        }
+
+        // add compilation diagnostics
+        diagnostics.addAll(moduleDiagnostics);
+        // add plugin diagnostics
+        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+        // add conflicting resources diagnostics
+        diagnostics.addAll(conflictedResourcesDiagnostics);
+
+        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        codeGenCompleted = true;
+    }
+
+    private void generateModules(boolean shrink, List<Diagnostic> moduleDiagnostics) {
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             if (shrink) {
                 ModuleContext.shrinkDocuments(moduleContext);
@@ -189,16 +213,31 @@ public class JBallerinaBackend extends CompilerBackend {
                 moduleContext.cleanBLangPackage();
             }
         }
+    }
 
-        // add compilation diagnostics
-        diagnostics.addAll(moduleDiagnostics);
-        // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
-        // add conflicting resources diagnostics
-        diagnostics.addAll(conflictedResourcesDiagnostics);
+    @Override
+    void cacheModuleOutputs(ModuleContext moduleContext, Runnable cacheWrite) {
+        // the outputs of a module are written to the cache by the shared pool while the following modules are compiled
+        int parallelism = packageCompilation.compilationOptions().compilationParallelism();
+        if (parallelism <= 1) {
+            cacheWrite.run();
+            return;
+        }
+        ParallelTasks parallelTasks = ParallelTasks.getInstance(compilerContext);
+        // the writes of a module are chained, so that they are run in order
+        moduleCacheWrites.compute(moduleContext.moduleId(), (moduleId, previousWrites) -> previousWrites == null ?
+                parallelTasks.runAsync(cacheWrite, parallelism) :
+                previousWrites.thenCompose(ignored -> parallelTasks.runAsync(cacheWrite, parallelism)));
+    }
 
-        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
-        codeGenCompleted = true;
+    private void awaitCacheWrites() {
+        try {
+            for (CompletableFuture<Void> cacheWrites : moduleCacheWrites.values()) {
+                ParallelTasks.join(cacheWrites);
+            }
+        } finally {
+            moduleCacheWrites.clear();
+        }
     }
 
     private boolean hasErrors(List<Diagnostic> diagnostics) {
@@ -375,15 +414,11 @@ public class JBallerinaBackend extends CompilerBackend {
         boolean isRemoteMgtEnabled = moduleContext.project().buildOptions().compilationOptions().remoteManagement();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage, isRemoteMgtEnabled);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = compiledJarFile.toByteArrayStream();
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        cacheModuleOutputs(moduleContext, () -> cacheLibrary(compilationCache, jarFileName, compiledJarFile,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName()));
         if (moduleContext.project().currentPackage().packageContext() == packageContext &&
                 moduleContext.isDefaultModule()) {
-            cacheResources(compilationCache, moduleContext.project().buildOptions().skipTests());
+            cacheResources(moduleContext, compilationCache, moduleContext.project().buildOptions().skipTests());
         }
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
@@ -397,11 +432,19 @@ public class JBallerinaBackend extends CompilerBackend {
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
                 isRemoteMgtEnabled);
-        try {
-            ByteArrayOutputStream byteStream = compiledTestJarFile.toByteArrayStream();
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
+        cacheModuleOutputs(moduleContext, () -> cacheLibrary(compilationCache, testJarFileName, compiledTestJarFile,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName()));
+    }
+
+    private void cacheLibrary(CompilationCache compilationCache, String libraryName, CompiledJarFile jarFile,
+                              String errorMessage) {
+        // the jar is compressed outside the lock, so that the jars of several modules are compressed in parallel
+        try (ByteArrayOutputStream byteStream = jarFile.toByteArrayStream()) {
+            synchronized (compilationCache) {
+                compilationCache.cachePlatformSpecificLibrary(this, libraryName, byteStream);
+            }
         } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+            throw new ProjectException(errorMessage, e);
         }
     }
 
@@ -437,23 +480,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private void assembleExecutableJar(Path executableFilePath,
                                        Manifest manifest,
                                        Collection<JarLibrary> jarLibraries) throws IOException {
-        // Used to prevent adding duplicated entries during the final jar creation.
-        HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
-
-        // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
-        // service loader related information should be merged together in the final executable jar creation.
-        HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-
-        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
-            writeManifest(manifest, outStream);
-
-            // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
-
-            // Copy merged spi services.
-            copyMergedSpiServices(serviceEntries, outStream);
-        }
+        // The executable jar of the previous build is updated in place, so that only the entries of the jar
+        // libraries which changed since then are written again.
+        createJarAssembler(manifest, jarLibraries).update(executableFilePath);
     }
 
     private void assembleTestExecutableJar(Path executableFilePath,
@@ -462,6 +491,22 @@ public class JBallerinaBackend extends CompilerBackend {
                                            Path testSuiteJsonPath, String jsonCopyPath,
                                            List<String> excludedClasses, String classPathTextCopyPath)
             throws IOException {
+        JarAssembler jarAssembler = createJarAssembler(manifest, jarLibraries);
+
+        // Write the test suite json file
+        jarAssembler.addEntry(jsonCopyPath, Files.readAllBytes(testSuiteJsonPath));
+
+        // Get the module jar paths and copy them to the executable jar
+        StringBuilder classPathText = new StringBuilder();
+        for (String path : excludedClasses) {
+            classPathText.append(path).append("\n");
+        }
+        jarAssembler.addEntry(classPathTextCopyPath, classPathText.toString().getBytes(StandardCharsets.UTF_8));
+        jarAssembler.write(executableFilePath);
+    }
+
+    private JarAssembler createJarAssembler(Manifest manifest, Collection<JarLibrary> jarLibraries)
+            throws IOException {
         // Used to prevent adding duplicated entries during the final jar creation.
         HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
 
@@ -469,45 +514,22 @@ public class JBallerinaBackend extends CompilerBackend {
         // service loader related information should be merged together in the final executable jar creation.
         HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
 
-        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
-            writeManifest(manifest, outStream);
-
-            // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
-
-            // Copy merged spi services.
-            copyMergedSpiServices(serviceEntries, outStream);
+        JarAssembler jarAssembler = new JarAssembler();
+        ByteArrayOutputStream manifestContent = new ByteArrayOutputStream();
+        manifest.write(manifestContent);
+        jarAssembler.addEntry(JarFile.MANIFEST_NAME, manifestContent.toByteArray());
 
-            // Write the test suite json file
-            JarArchiveEntry testSuiteJsonEntry = new JarArchiveEntry(jsonCopyPath);
-            outStream.putArchiveEntry(testSuiteJsonEntry);
-            outStream.write(Files.readAllBytes(testSuiteJsonPath));
-            outStream.closeArchiveEntry();
+        // Sort jar libraries list to avoid inconsistent jar reporting
+        sortAndCopyJars(jarLibraries, jarAssembler, copiedEntries, serviceEntries);
 
-            // Get the module jar paths and copy them to the executable jar
-            JarArchiveEntry classPathTextEntry = new JarArchiveEntry(classPathTextCopyPath);
-            outStream.putArchiveEntry(classPathTextEntry);
-            for (String path : excludedClasses) {
-                outStream.write((path + "\n").getBytes(StandardCharsets.UTF_8));
-            }
-            outStream.closeArchiveEntry();
-        }
-    }
-
-    private static void copyMergedSpiServices(HashMap<String, StringBuilder> serviceEntries,
-                                              ZipArchiveOutputStream outStream) throws IOException {
+        // Copy merged spi services.
         for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-            String s = entry.getKey();
-            StringBuilder service = entry.getValue();
-            JarArchiveEntry e = new JarArchiveEntry(s);
-            outStream.putArchiveEntry(e);
-            outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-            outStream.closeArchiveEntry();
+            jarAssembler.addEntry(entry.getKey(), entry.getValue().toString().getBytes(StandardCharsets.UTF_8));
         }
+        return jarAssembler;
     }
 
-    private void sortAndCopyJars(Collection<JarLibrary> jarLibraries, ZipArchiveOutputStream outStream,
+    private void sortAndCopyJars(Collection<JarLibrary> jarLibraries, JarAssembler jarAssembler,
                                  HashMap<String, JarLibrary> copiedEntries,
                                  HashMap<String, StringBuilder> serviceEntries) throws IOException {
 
@@ -515,17 +537,24 @@ public class JBallerinaBackend extends CompilerBackend {
                 .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
                 .toList();
 
-        // Copy all the jars
-        for (JarLibrary library : sortedJarLibraries) {
-            copyJar(outStream, library, copiedEntries, serviceEntries);
+        // The jars are read in parallel, but their entries are selected in order, since the first jar which has
+        // an entry is the one it is copied from.
+        JarContent[] jarContents = new JarContent[sortedJarLibraries.size()];
+        List<Integer> indices = IntStream.range(0, jarContents.length).boxed().toList();
+        ParallelTasks parallelTasks = ParallelTasks.getInstance(compilerContext);
+        try {
+            parallelTasks.forEach(indices, packageCompilation.compilationOptions().compilationParallelism(),
+                    index -> jarContents[index] = readJar(sortedJarLibraries.get(index)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            parallelTasks.shutdown();
         }
-    }
 
-    private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
-        JarArchiveEntry e = new JarArchiveEntry(JarFile.MANIFEST_NAME);
-        outStream.putArchiveEntry(e);
-        manifest.write(new BufferedOutputStream(outStream));
-        outStream.closeArchiveEntry();
+        // Copy all the jars
+        for (JarContent jarContent : jarContents) {
+            copyJar(jarAssembler, jarContent, copiedEntries, serviceEntries);
+        }
     }
 
     private Manifest createManifest() {
@@ -558,73 +587,81 @@ public class JBallerinaBackend extends CompilerBackend {
         return manifest;
     }
 
+    /**
+     * Reads the entries of a given jar file, and the content of its SPI entries.
+     *
+     * @param jarLibrary jar library.
+     * @return entries of the jar file.
+     */
+    private static JarContent readJar(JarLibrary jarLibrary) {
+        List<ZipArchiveEntry> entries = new ArrayList<>();
+        Map<ZipArchiveEntry, String> services = new HashMap<>();
+        try (ZipFile zipFile = new ZipFile(jarLibrary.path().toFile())) {
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                String entryName = entry.getName();
+                if (entryName.equals("META-INF/MANIFEST.MF") || entryName.equals("module-info.class")) {
+                    continue;
+                }
+                if (entryName.startsWith("META-INF/services")) {
+                    try (InputStream inStream = zipFile.getInputStream(entry)) {
+                        services.put(entry, new String(inStream.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+                }
+                entries.add(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new JarContent(jarLibrary, entries, services);
+    }
+
     /**
      * Copies a given jar file into the executable fat jar.
      *
-     * @param outStream     Output stream of the final uber jar.
-     * @param jarLibrary    jar library.
+     * @param jarAssembler  Assembler of the final uber jar.
+     * @param jarContent    Entries of the jar library.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
      */
-    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
+    private void copyJar(JarAssembler jarAssembler, JarContent jarContent,
                          HashMap<String, JarLibrary> copiedEntries, HashMap<String,
-            StringBuilder> services) throws IOException {
+            StringBuilder> services) {
         if (Thread.currentThread().isInterrupted()) {
             return;
         }
-        try (ZipFile zipFile = new ZipFile(jarLibrary.path().toFile())) {
-            ZipArchiveEntryPredicate predicate = entry -> {
-                String entryName = entry.getName();
-                if (entryName.equals("META-INF/MANIFEST.MF")) {
-                    return false;
-                }
-                if (entryName.equals("module-info.class")) {
-                    return false;
-                }
-                if (entryName.startsWith("META-INF/services")) {
-                    StringBuilder s = services.get(entryName);
-                    if (s == null) {
-                        s = new StringBuilder();
-                        services.put(entryName, s);
-                    }
-                    char c = '\n';
-
-                    int len;
-                    try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                        while ((len = inStream.read()) != -1) {
-                            c = (char) len;
-                            s.append(c);
-                        }
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                    if (c != '\n') {
-                        s.append('\n');
-                    }
-
-                    // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                    // separately. Therefore the predicate should be set as false.
-                    return false;
+        JarLibrary jarLibrary = jarContent.jarLibrary();
+        List<ZipArchiveEntry> selectedEntries = new ArrayList<>();
+        for (ZipArchiveEntry entry : jarContent.entries()) {
+            String entryName = entry.getName();
+            String service = jarContent.services().get(entry);
+            if (service != null) {
+                StringBuilder s = services.computeIfAbsent(entryName, k -> new StringBuilder());
+                s.append(service);
+                if (!service.isEmpty() && service.charAt(service.length() - 1) != '\n') {
+                    s.append('\n');
                 }
 
-                // Skip already copied files or excluded extensions.
-                if (isCopiedEntry(entryName, copiedEntries)) {
-                    addConflictedJars(jarLibrary, copiedEntries, entryName);
-                    return false;
-                }
-                if (isExcludedEntry(entryName)) {
-                    return false;
-                }
-                // SPIs will be merged first and then put into jar separately.
-                copiedEntries.put(entryName, jarLibrary);
-                return true;
-            };
+                // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
+                // separately.
+                continue;
+            }
 
-            // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-            // all the other original attributes.
-            zipFile.copyRawEntries(outStream, predicate);
+            // Skip already copied files or excluded extensions.
+            if (isCopiedEntry(entryName, copiedEntries)) {
+                addConflictedJars(jarLibrary, copiedEntries, entryName);
+                continue;
+            }
+            if (isExcludedEntry(entryName)) {
+                continue;
+            }
+            // SPIs will be merged first and then put into jar separately.
+            copiedEntries.put(entryName, jarLibrary);
+            selectedEntries.add(entry);
         }
+
+        // Transfers selected entries from this zip file to the final jar, while preserving its compression and
+        // all the other original attributes.
+        jarAssembler.addEntries(jarLibrary.path(), selectedEntries);
     }
 
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
@@ -848,6 +885,17 @@ public class JBallerinaBackend extends CompilerBackend {
         return jdkVersion;
     }
 
+    /**
+     * Entries of a jar library, and the content of its SPI entries.
+     *
+     * @param jarLibrary jar library
+     * @param entries    entries of the jar library, except its manifest and module descriptor
+     * @param services   content of the SPI entries of the jar library
+     */
+    private record JarContent(JarLibrary jarLibrary, List<ZipArchiveEntry> entries,
+                              Map<ZipArchiveEntry, String> services) {
+    }
+
     /**
      * Inner class to represent jar conflict.
      */
@@ -968,7 +1016,7 @@ public class JBallerinaBackend extends CompilerBackend {
         return resourceMap;
     }
 
-    private void cacheResources(CompilationCache compilationCache, boolean skipTests) {
+    private void cacheResources(ModuleContext moduleContext, CompilationCache compilationCache, boolean skipTests) {
         Map<String, byte[]> resources = new HashMap<>();
         Map<String, String> resourceToPkgMap = new HashMap<>();
         List<String> conflictingResourceFiles = new ArrayList<>();
@@ -1027,17 +1075,11 @@ public class JBallerinaBackend extends CompilerBackend {
 
         // Cache the resources if there are any
         if (!resources.isEmpty()) {
-            try {
-                String resourceJarName = RESOURCE_DIR_NAME + JAR_FILE_NAME_SUFFIX;
-                CompiledJarFile resourceJar = new CompiledJarFile("");
-                resourceJar.jarEntries.putResourceEntries(resources);
-                try (ByteArrayOutputStream byteStream = resourceJar.toByteArrayStream()) {
-                    compilationCache.cachePlatformSpecificLibrary(this, resourceJarName, byteStream);
-                }
-            } catch (IOException e) {
-                throw new ProjectException("Failed to cache resources jar, package: " +
-                        packageContext.packageName(), e);
-            }
+            String resourceJarName = RESOURCE_DIR_NAME + JAR_FILE_NAME_SUFFIX;
+            CompiledJarFile resourceJar = new CompiledJarFile("");
+            resourceJar.jarEntries.putResourceEntries(resources);
+            cacheModuleOutputs(moduleContext, () -> cacheLibrary(compilationCache, resourceJarName, resourceJar,
+                    "Failed to cache resources jar, package: " + packageContext.packageName()));
         }
     }
 
@@ -23,6 +23,7 @@ import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.ModuleContextDataHolder;
+import io.ballerina.projects.internal.ParallelTasks;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
@@ -44,20 +45,34 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -71,6 +86,8 @@ import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
  * @since 2.0.0
  */
 class ModuleContext {
+    private static final String CACHE_KEY_ALGORITHM = "SHA-256";
+
     private final ModuleId moduleId;
     private final ModuleDescriptor moduleDescriptor;
     private final Collection<DocumentId> srcDocIds;
@@ -81,9 +98,15 @@ class ModuleContext {
     private final Map<DocumentId, DocumentContext> testDocContextMap;
     private final Project project;
     private final CompilationCache compilationCache;
+    private final ParallelTasks parallelTasks;
     private final List<ModuleDescriptor> moduleDescDependencies;
 
     private Set<ModuleDependency> moduleDependencies;
+    private Set<ModuleContext> dependencyModuleContexts;
+    private String cacheKey;
+    private boolean cacheKeyInProgress;
+    private boolean loadedFromCache;
+    private boolean cacheChecked;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
@@ -115,6 +138,7 @@ class ModuleContext {
         ProjectEnvironment projectEnvironment = project.projectEnvironmentContext();
         this.bootstrap = new Bootstrap(projectEnvironment.getService(PackageResolver.class));
         this.compilationCache = projectEnvironment.getService(CompilationCache.class);
+        this.parallelTasks = ParallelTasks.getInstance(projectEnvironment.getService(CompilerContext.class));
     }
 
     static ModuleContext from(Project project, ModuleConfig moduleConfig, boolean disableSyntaxTree) {
@@ -268,23 +292,159 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
-            moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
-        } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+        if (this.project().kind() == ProjectKind.BUILD_PROJECT && !this.project.buildOptions().enableCache()) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
-            moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
+            loadedFromCache = isCached();
+            cacheChecked = true;
+            moduleCompState = loadedFromCache ? ModuleCompilationState.LOADED_FROM_CACHE :
+                    ModuleCompilationState.LOADED_FROM_SOURCES;
         }
         return moduleCompState;
     }
 
+    /**
+     * Checks whether the compilation cache has the BIR of this module generated from the same cache key. Cache
+     * entries without a recorded key are written by previous versions, and are used only for the modules of
+     * dependency packages, which do not change within a version.
+     */
+    private boolean isCached() {
+        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+            return false;
+        }
+        Optional<String> cachedKey = compilationCache.getCacheKey(moduleDescriptor.name());
+        if (cachedKey.isEmpty()) {
+            return this.project.kind() == ProjectKind.BALA_PROJECT;
+        }
+        return cachedKey.equals(cacheKey());
+    }
+
+    /**
+     * Returns the key of the compilation cache entry of this module. It is a hash of the compiler version, the
+     * compilation options which change the generated code, the sources of the module, the platform libraries of its
+     * package and the keys of the modules it depends on, so it changes when any of the modules this module depends
+     * on changes.
+     *
+     * @return cache key, or empty if the dependencies of the module are not resolved or are cyclic
+     */
+    Optional<String> cacheKey() {
+        if (cacheKey != null) {
+            return Optional.of(cacheKey);
+        }
+        if (dependencyModuleContexts == null || cacheKeyInProgress) {
+            return Optional.empty();
+        }
+
+        cacheKeyInProgress = true;
+        try {
+            MessageDigest digest = MessageDigest.getInstance(CACHE_KEY_ALGORITHM);
+            updateDigest(digest, RepoUtils.getBallerinaVersion());
+            CompilationOptions compilationOptions = project.buildOptions().compilationOptions();
+            updateDigest(digest, Boolean.toString(compilationOptions.observabilityIncluded()));
+            updateDigest(digest, Boolean.toString(compilationOptions.remoteManagement()));
+            updateDigest(digest, Boolean.toString(compilationOptions.experimental()));
+            updateDigest(digest, Boolean.toString(project.buildOptions().skipTests()));
+            updateDigest(digest, moduleDescriptor.org() + "/" + moduleDescriptor.name() + ":" +
+                    moduleDescriptor.version());
+            updateDigest(digest, srcDocContextMap.values());
+            updateDigest(digest, testDocContextMap.values());
+            updateDigest(digest, project.currentPackage().manifest().platforms());
+            List<String> dependencyKeys = new ArrayList<>(dependencyModuleContexts.size());
+            for (ModuleContext dependency : dependencyModuleContexts) {
+                Optional<String> dependencyKey = dependency.cacheKey();
+                if (dependencyKey.isEmpty()) {
+                    return Optional.empty();
+                }
+                dependencyKeys.add(dependencyKey.get());
+            }
+            Collections.sort(dependencyKeys);
+            for (String dependencyKey : dependencyKeys) {
+                updateDigest(digest, dependencyKey);
+            }
+            cacheKey = HexFormat.of().formatHex(digest.digest());
+            return Optional.of(cacheKey);
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new ProjectException("Failed to compute the cache key of module: " + moduleName(), e);
+        } finally {
+            cacheKeyInProgress = false;
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> sortedDocumentContexts = new ArrayList<>(documentContexts);
+        sortedDocumentContexts.sort(Comparator.comparing(DocumentContext::name));
+        updateDigest(digest, Integer.toString(sortedDocumentContexts.size()));
+        for (DocumentContext documentContext : sortedDocumentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.content());
+        }
+    }
+
+    /**
+     * Adds the platform libraries of the package to the digest. The content of a library given by its path is added
+     * as well, since it can change without any change in the package manifest.
+     */
+    private void updateDigest(MessageDigest digest, Map<String, PackageManifest.Platform> platforms)
+            throws IOException, NoSuchAlgorithmException {
+        for (Map.Entry<String, PackageManifest.Platform> platform : new TreeMap<>(platforms).entrySet()) {
+            if (platform.getValue() == null) {
+                continue;
+            }
+            updateDigest(digest, platform.getKey());
+            List<Map<String, Object>> dependencies = platform.getValue().dependencies();
+            updateDigest(digest, Integer.toString(dependencies.size()));
+            for (Map<String, Object> dependency : dependencies) {
+                for (Map.Entry<String, Object> entry : new TreeMap<>(dependency).entrySet()) {
+                    updateDigest(digest, entry.getKey());
+                    updateDigest(digest, String.valueOf(entry.getValue()));
+                }
+                Object dependencyPath = dependency.get(JarLibrary.KEY_PATH);
+                if (dependencyPath instanceof String path && !path.isEmpty()) {
+                    updateDigest(digest, checksum(project.sourceRoot().resolve(path)));
+                }
+            }
+        }
+    }
+
+    private static String checksum(Path filePath) throws IOException, NoSuchAlgorithmException {
+        if (!Files.isRegularFile(filePath)) {
+            return "";
+        }
+        MessageDigest digest = MessageDigest.getInstance(CACHE_KEY_ALGORITHM);
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * Returns whether the compilation cache was checked for this module, and if so whether it was loaded from it.
+     *
+     * @return empty if the cache was not checked, otherwise whether the module was loaded from the cache
+     */
+    Optional<Boolean> cacheHit() {
+        return cacheChecked ? Optional.of(loadedFromCache) : Optional.empty();
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
+        if (moduleCompState == null) {
+            // the dependencies of the module have changed
+            this.cacheKey = null;
+            this.cacheChecked = false;
+            this.loadedFromCache = false;
+        }
     }
 
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
+        this.dependencyModuleContexts = new HashSet<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
             for (ModuleDescriptor dependencyModDesc : moduleDescDependencies) {
                 // Dependencies loaded from cache should not contain test dependencies
@@ -330,6 +490,7 @@ class ModuleContext {
         ModuleDependency moduleDependency = new ModuleDependency(
                 new PackageDependency(resolvedModule.moduleId().packageId(), scope), resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -348,6 +509,7 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.packageInstance().packageId(), scope),
                 resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule.moduleContext());
     }
 
     void compile(CompilerContext compilerContext) {
@@ -359,9 +521,10 @@ class ModuleContext {
     }
 
     static void parseInternal(ModuleContext moduleContext) {
-        for (DocumentContext docContext : moduleContext.srcDocContextMap.values()) {
-            docContext.parse();
-        }
+        // Documents are parsed independently of each other. The syntax trees are converted to BLang trees in the
+        // order of the documents at compilation, since that shares the compiler context.
+        moduleContext.parallelTasks.forEach(moduleContext.srcDocContextMap.values(),
+                moduleContext.project.buildOptions().compilationParallelism(), DocumentContext::parse);
     }
 
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
@@ -414,6 +577,11 @@ class ModuleContext {
             compilerPhaseRunner.addDiagnosticForUnhandledException(pkgNode, t);
         }
         moduleContext.bLangPackage = pkgNode;
+        // The cache key is computed from the content of the documents, which is not kept once they are shrunk
+        // before the code generation
+        if (shouldGenerateBir(moduleContext, compilerContext)) {
+            moduleContext.cacheKey();
+        }
     }
 
     static void generateCodeInternal(ModuleContext moduleContext,
@@ -455,7 +623,14 @@ class ModuleContext {
         }
 
         // Generate and write the thin JAR to the file system
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        CompilationCache compilationCache = moduleContext.compilationCache;
+        ModuleName moduleName = moduleContext.moduleName();
+        compilerBackend.cacheModuleOutputs(moduleContext, () -> {
+            synchronized (compilationCache) {
+                compilationCache.clearCacheKey(moduleName);
+            }
+        });
+        compilerBackend.performCodeGen(moduleContext, compilationCache);
 
         // Skip bir caching if jar generation is not successful
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -469,7 +644,15 @@ class ModuleContext {
         // Write the bir to the file system
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
-        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        Optional<String> cacheKey = moduleContext.cacheKey();
+        compilerBackend.cacheModuleOutputs(moduleContext, () -> {
+            synchronized (compilationCache) {
+                compilationCache.cacheBir(moduleName, birContent);
+                // The key is recorded last, so that a cache entry is used only if both the BIR and the JAR are
+                // written
+                cacheKey.ifPresent(key -> compilationCache.cacheKey(moduleName, key));
+            }
+        });
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -23,6 +23,7 @@ import io.ballerina.projects.CompilerBackend.TargetPlatform;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
+import io.ballerina.projects.internal.ParallelTasks;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
@@ -39,6 +40,7 @@ import java.util.ServiceLoader;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILATION_PARALLELISM;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
@@ -92,6 +94,7 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(COMPILATION_PARALLELISM, Integer.toString(compilationOptions.compilationParallelism()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -101,7 +104,12 @@ public class PackageCompilation {
 
     private static PackageCompilation compile(PackageCompilation compilation) {
         // Compile modules in the dependency graph
-        compilation.compileModules();
+        try {
+            compilation.compileModules();
+        } finally {
+            // the threads used to parse and compile the modules are not kept once they are compiled
+            ParallelTasks.getInstance(compilation.compilerContext).shutdown();
+        }
         // Now the modules are compiled, initialize the compiler plugin manager
         CompilerPluginManager compilerPluginManager = CompilerPluginManager.from(compilation);
         compilation.setCompilerPluginManager(compilerPluginManager);
@@ -158,6 +166,34 @@ public class PackageCompilation {
         return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
     }
 
+    /**
+     * Returns the number of modules which were loaded from the compilation cache instead of being compiled.
+     *
+     * @return number of compilation cache hits
+     */
+    public int compilationCacheHits() {
+        return countCacheLookups(true);
+    }
+
+    /**
+     * Returns the number of modules which were looked up in the compilation cache, but had to be compiled.
+     *
+     * @return number of compilation cache misses
+     */
+    public int compilationCacheMisses() {
+        return countCacheLookups(false);
+    }
+
+    private int countCacheLookups(boolean hit) {
+        int count = 0;
+        for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            if (moduleContext.cacheHit().filter(cacheHit -> cacheHit == hit).isPresent()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public CodeActionManager getCodeActionManager() {
         return compilerPluginManager.getCodeActionManager();
     }
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.projects.internal;
+
+import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * Assembles a jar from generated entries and the entries of other jars, which are copied without being
+ * recompressed.
+ * <p>
+ * A jar can be updated in place, in which case the entries of the previous jar which did not change are left where
+ * they are, the entries which changed are appended after them, and the central directory is rewritten. The previous
+ * jar is written from scratch if the first entry changed, since it holds the manifest, or if most of it would
+ * become unused.
+ *
+ * @since 2201.13.0
+ */
+public class JarAssembler {
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final int ZIP64_VERSION = 45;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP16_LIMIT = 0xFFFF;
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+
+    private final List<Part> parts = new ArrayList<>();
+
+    /**
+     * Adds an entry with the given content.
+     *
+     * @param name    name of the entry
+     * @param content content of the entry
+     */
+    public void addEntry(String name, byte[] content) {
+        parts.add(new GeneratedEntry(name, content));
+    }
+
+    /**
+     * Adds the given entries of a jar. The entries are copied as they are, and are written in the order of the jar.
+     *
+     * @param jarPath path of the jar
+     * @param entries entries of the jar to add
+     */
+    public void addEntries(Path jarPath, Collection<ZipArchiveEntry> entries) {
+        Map<String, ZipArchiveEntry> entryMap = new LinkedHashMap<>();
+        for (ZipArchiveEntry entry : entries) {
+            entryMap.putIfAbsent(entry.getName(), entry);
+        }
+        parts.add(new JarEntries(jarPath, entryMap));
+    }
+
+    /**
+     * Writes the jar from scratch.
+     *
+     * @param jarPath path of the jar
+     * @throws IOException if the jar cannot be written
+     */
+    public void write(Path jarPath) throws IOException {
+        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(jarPath)))) {
+            for (Part part : parts) {
+                part.write(outStream, name -> true);
+            }
+        }
+    }
+
+    /**
+     * Updates the jar written previously in place, or writes it from scratch if it cannot be updated.
+     *
+     * @param jarPath path of the jar
+     * @return whether the jar was updated in place
+     * @throws IOException if the jar cannot be written
+     */
+    public boolean update(Path jarPath) throws IOException {
+        Optional<CentralDirectory> previous = Files.isRegularFile(jarPath) ?
+                CentralDirectory.read(jarPath) : Optional.empty();
+        if (previous.isEmpty() || !canUpdate(previous.get())) {
+            write(jarPath);
+            return false;
+        }
+
+        CentralDirectory previousDirectory = previous.get();
+        Path tempJarPath = Files.createTempFile(jarPath.toAbsolutePath().getParent(),
+                String.valueOf(jarPath.getFileName()), ".tmp");
+        try {
+            // the entries which changed are written to a separate jar first, to be appended to the previous one
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempJarPath)))) {
+                for (Part part : parts) {
+                    part.write(outStream, name -> !part.isReusable(name, previousDirectory));
+                }
+            }
+            Optional<CentralDirectory> appended = CentralDirectory.read(tempJarPath);
+            long appendOffset = previousDirectory.offset;
+            if (appended.isEmpty() || appendOffset + appended.get().offset >= ZIP32_LIMIT) {
+                write(jarPath);
+                return false;
+            }
+            writeCentralDirectory(jarPath, previousDirectory, appended.get(), tempJarPath);
+            return true;
+        } finally {
+            Files.deleteIfExists(tempJarPath);
+        }
+    }
+
+    private boolean canUpdate(CentralDirectory previous) {
+        boolean first = true;
+        long reusedSize = 0;
+        for (Part part : parts) {
+            for (String name : part.names()) {
+                if (part.isReusable(name, previous)) {
+                    reusedSize += previous.entrySize(name);
+                } else if (first) {
+                    return false;
+                }
+                first = false;
+            }
+        }
+        // avoid growing the jar indefinitely with the entries which are no longer used
+        return reusedSize >= previous.offset / 2;
+    }
+
+    private void writeCentralDirectory(Path jarPath, CentralDirectory previous, CentralDirectory appended,
+                                       Path appendedJarPath) throws IOException {
+        long appendOffset = previous.offset;
+        List<byte[]> records = new ArrayList<>();
+        for (Part part : parts) {
+            for (String name : part.names()) {
+                if (part.isReusable(name, previous)) {
+                    records.add(previous.entries.get(name).record);
+                } else {
+                    CentralDirectoryEntry entry = appended.entries.get(name);
+                    byte[] record = entry.record.clone();
+                    ByteBuffer.wrap(record).order(ByteOrder.LITTLE_ENDIAN)
+                            .putInt(42, (int) (appendOffset + entry.localHeaderOffset));
+                    records.add(record);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.WRITE);
+             FileChannel appendedChannel = FileChannel.open(appendedJarPath, StandardOpenOption.READ)) {
+            // the previous central directory is removed first, so that the jar is not readable if the update fails
+            channel.truncate(appendOffset);
+            long position = appendOffset;
+            while (position < appendOffset + appended.offset) {
+                position += channel.transferFrom(appendedChannel, position,
+                        appendOffset + appended.offset - position);
+            }
+
+            OutputStream outStream = new BufferedOutputStream(Channels.newOutputStream(channel.position(position)));
+            long size = 0;
+            for (byte[] record : records) {
+                outStream.write(record);
+                size += record.length;
+            }
+            writeEndOfCentralDirectory(outStream, records.size(), size, position);
+            outStream.flush();
+        }
+    }
+
+    private static void writeEndOfCentralDirectory(OutputStream outStream, long entryCount, long size, long offset)
+            throws IOException {
+        boolean zip64 = entryCount >= ZIP16_LIMIT || size >= ZIP32_LIMIT || offset >= ZIP32_LIMIT;
+        ByteBuffer buffer = ByteBuffer.allocate(ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE + ZIP64_LOCATOR_SIZE +
+                END_OF_CENTRAL_DIRECTORY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (zip64) {
+            buffer.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+                    .putLong(ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE - 12)
+                    .putShort((short) ZIP64_VERSION)
+                    .putShort((short) ZIP64_VERSION)
+                    .putInt(0)
+                    .putInt(0)
+                    .putLong(entryCount)
+                    .putLong(entryCount)
+                    .putLong(size)
+                    .putLong(offset);
+            buffer.putInt(ZIP64_LOCATOR_SIGNATURE)
+                    .putInt(0)
+                    .putLong(offset + size)
+                    .putInt(1);
+        }
+        buffer.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) (zip64 ? ZIP16_LIMIT : entryCount))
+                .putShort((short) (zip64 ? ZIP16_LIMIT : entryCount))
+                .putInt((int) (zip64 ? ZIP32_LIMIT : size))
+                .putInt((int) (zip64 ? ZIP32_LIMIT : offset))
+                .putShort((short) 0);
+        outStream.write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * A part of the assembled jar.
+     */
+    private interface Part {
+
+        Set<String> names();
+
+        boolean isReusable(String name, CentralDirectory previous);
+
+        void write(ZipArchiveOutputStream outStream, Predicate<String> filter) throws IOException;
+    }
+
+    private record GeneratedEntry(String name, byte[] content) implements Part {
+
+        @Override
+        public Set<String> names() {
+            return Set.of(name);
+        }
+
+        @Override
+        public boolean isReusable(String name, CentralDirectory previous) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            return previous.contains(name, crc.getValue(), content.length);
+        }
+
+        @Override
+        public void write(ZipArchiveOutputStream outStream, Predicate<String> filter) throws IOException {
+            if (!filter.test(name)) {
+                return;
+            }
+            outStream.putArchiveEntry(new JarArchiveEntry(name));
+            outStream.write(content);
+            outStream.closeArchiveEntry();
+        }
+    }
+
+    private record JarEntries(Path jarPath, Map<String, ZipArchiveEntry> entries) implements Part {
+
+        @Override
+        public Set<String> names() {
+            return entries.keySet();
+        }
+
+        @Override
+        public boolean isReusable(String name, CentralDirectory previous) {
+            ZipArchiveEntry entry = entries.get(name);
+            return previous.contains(name, entry.getCrc(), entry.getSize());
+        }
+
+        @Override
+        public void write(ZipArchiveOutputStream outStream, Predicate<String> filter) throws IOException {
+            Set<String> remaining = new HashSet<>(entries.keySet());
+            remaining.removeIf(name -> !filter.test(name));
+            if (remaining.isEmpty()) {
+                return;
+            }
+            try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+                // Transfers selected entries from this zip file to the output stream, while preserving its
+                // compression and all the other original attributes. An entry which is duplicated in the jar is
+                // copied only once.
+                zipFile.copyRawEntries(outStream, entry -> remaining.remove(entry.getName()));
+            }
+        }
+    }
+
+    /**
+     * Entry in the central directory of a jar.
+     *
+     * @param crc               CRC-32 of the uncompressed content
+     * @param size              size of the uncompressed content
+     * @param localHeaderOffset offset of the local header of the entry
+     * @param record            central directory record of the entry
+     */
+    private record CentralDirectoryEntry(long crc, long size, long localHeaderOffset, byte[] record) {
+    }
+
+    /**
+     * Central directory of a jar, which holds the entries of the jar.
+     *
+     * @param offset  offset of the central directory, which is where the entries of the jar end
+     * @param entries entries of the jar by name
+     * @param sizes   number of bytes each entry takes in the jar, including its local header
+     */
+    private record CentralDirectory(long offset, Map<String, CentralDirectoryEntry> entries,
+                                    Map<String, Long> sizes) {
+
+        boolean contains(String name, long crc, long size) {
+            CentralDirectoryEntry entry = entries.get(name);
+            return entry != null && entry.crc == crc && entry.size == size;
+        }
+
+        long entrySize(String name) {
+            return sizes.getOrDefault(name, 0L);
+        }
+
+        /**
+         * Reads the central directory of the given jar.
+         *
+         * @param jarPath path of the jar
+         * @return central directory, or empty if the jar is not a valid jar which can be updated
+         * @throws IOException if the jar cannot be read
+         */
+        static Optional<CentralDirectory> read(Path jarPath) throws IOException {
+            try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+                long fileSize = channel.size();
+                int tailSize = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+                ByteBuffer tail = readFully(channel, fileSize - tailSize, tailSize);
+                int endPosition = -1;
+                for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+                    if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                        endPosition = i;
+                        break;
+                    }
+                }
+                if (endPosition < 0) {
+                    return Optional.empty();
+                }
+
+                long entryCount = Short.toUnsignedLong(tail.getShort(endPosition + 10));
+                long size = Integer.toUnsignedLong(tail.getInt(endPosition + 12));
+                long offset = Integer.toUnsignedLong(tail.getInt(endPosition + 16));
+                if (entryCount == ZIP16_LIMIT || size == ZIP32_LIMIT || offset == ZIP32_LIMIT) {
+                    long locatorPosition = fileSize - tailSize + endPosition - ZIP64_LOCATOR_SIZE;
+                    if (locatorPosition < 0) {
+                        return Optional.empty();
+                    }
+                    ByteBuffer locator = readFully(channel, locatorPosition, ZIP64_LOCATOR_SIZE);
+                    if (locator.getInt(0) != ZIP64_LOCATOR_SIGNATURE) {
+                        return Optional.empty();
+                    }
+                    ByteBuffer zip64End = readFully(channel, locator.getLong(8), ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+                    if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                        return Optional.empty();
+                    }
+                    entryCount = zip64End.getLong(32);
+                    size = zip64End.getLong(40);
+                    offset = zip64End.getLong(48);
+                }
+                if (offset + size > fileSize || size > Integer.MAX_VALUE) {
+                    return Optional.empty();
+                }
+
+                ByteBuffer directory = readFully(channel, offset, (int) size);
+                return readEntries(directory, entryCount, offset);
+            }
+        }
+
+        private static Optional<CentralDirectory> readEntries(ByteBuffer directory, long entryCount, long offset) {
+            Map<String, CentralDirectoryEntry> entries = new HashMap<>();
+            int position = 0;
+            for (long i = 0; i < entryCount; i++) {
+                if (position + CENTRAL_HEADER_SIZE > directory.limit() ||
+                        directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                    return Optional.empty();
+                }
+                int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+                int extraLength = Short.toUnsignedInt(directory.getShort(position + 30));
+                int commentLength = Short.toUnsignedInt(directory.getShort(position + 32));
+                int recordLength = CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+                if (position + recordLength > directory.limit()) {
+                    return Optional.empty();
+                }
+
+                long crc = Integer.toUnsignedLong(directory.getInt(position + 16));
+                long compressedSize = Integer.toUnsignedLong(directory.getInt(position + 20));
+                long size = Integer.toUnsignedLong(directory.getInt(position + 24));
+                long localHeaderOffset = Integer.toUnsignedLong(directory.getInt(position + 42));
+                // values which do not fit in the record are in the zip64 extra field, in this order
+                int extraPosition = position + CENTRAL_HEADER_SIZE + nameLength;
+                int extraEnd = extraPosition + extraLength;
+                while (extraPosition + 4 <= extraEnd) {
+                    int id = Short.toUnsignedInt(directory.getShort(extraPosition));
+                    int length = Short.toUnsignedInt(directory.getShort(extraPosition + 2));
+                    if (id == ZIP64_EXTRA_ID) {
+                        int valuePosition = extraPosition + 4;
+                        if (size == ZIP32_LIMIT) {
+                            size = directory.getLong(valuePosition);
+                            valuePosition += 8;
+                        }
+                        if (compressedSize == ZIP32_LIMIT) {
+                            valuePosition += 8;
+                        }
+                        if (localHeaderOffset == ZIP32_LIMIT) {
+                            localHeaderOffset = directory.getLong(valuePosition);
+                        }
+                        break;
+                    }
+                    extraPosition += 4 + length;
+                }
+
+                byte[] nameBytes = new byte[nameLength];
+                directory.get(position + CENTRAL_HEADER_SIZE, nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                byte[] record = new byte[recordLength];
+                directory.get(position, record);
+                if (entries.put(name, new CentralDirectoryEntry(crc, size, localHeaderOffset, record)) != null) {
+                    // duplicated entries cannot be told apart by name
+                    return Optional.empty();
+                }
+                position += recordLength;
+            }
+            return Optional.of(new CentralDirectory(offset, entries, entrySizes(entries, offset)));
+        }
+
+        private static Map<String, Long> entrySizes(Map<String, CentralDirectoryEntry> entries, long offset) {
+            List<Map.Entry<String, CentralDirectoryEntry>> sortedEntries = new ArrayList<>(entries.entrySet());
+            sortedEntries.sort(Map.Entry.comparingByValue(
+                    Comparator.comparingLong(CentralDirectoryEntry::localHeaderOffset)));
+            Map<String, Long> sizes = new HashMap<>();
+            for (int i = 0; i < sortedEntries.size(); i++) {
+                long end = i + 1 < sortedEntries.size() ?
+                        sortedEntries.get(i + 1).getValue().localHeaderOffset : offset;
+                Map.Entry<String, CentralDirectoryEntry> entry = sortedEntries.get(i);
+                sizes.put(entry.getKey(), end - entry.getValue().localHeaderOffset);
+            }
+            return sizes;
+        }
+
+        private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("unexpected end of file while reading the jar");
+                }
+            }
+            return buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.projects.internal;
+
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent compilation tasks, such as parsing the documents of a module, on a bounded number of threads.
+ * <p>
+ * There is one instance for each compiler context. The pool is created when it is first needed and is shared by all
+ * the tasks of a compilation. It is shut down by {@link #shutdown()} when the compilation ends, and the next
+ * compilation creates a new one.
+ *
+ * @since 2201.13.0
+ */
+public final class ParallelTasks {
+
+    private static final CompilerContext.Key<ParallelTasks> PARALLEL_TASKS_KEY = new CompilerContext.Key<>();
+
+    private ForkJoinPool pool;
+
+    public static ParallelTasks getInstance(CompilerContext context) {
+        ParallelTasks parallelTasks = context.get(PARALLEL_TASKS_KEY);
+        if (parallelTasks == null) {
+            parallelTasks = new ParallelTasks(context);
+        }
+        return parallelTasks;
+    }
+
+    private ParallelTasks(CompilerContext context) {
+        context.put(PARALLEL_TASKS_KEY, this);
+    }
+
+    /**
+     * Runs the given task for each of the items using at most the given number of threads, and waits until all of
+     * them are complete. The tasks are run in the calling thread if the parallelism or the number of items is one.
+     *
+     * @param items       items to run the task for
+     * @param parallelism maximum number of threads
+     * @param task        task to run for each item, which must not depend on the other items
+     * @param <T>         type of the items
+     */
+    public <T> void forEach(Collection<T> items, int parallelism, Consumer<? super T> task) {
+        if (parallelism <= 1 || items.size() <= 1) {
+            items.forEach(task);
+            return;
+        }
+        join(forEachAsync(List.copyOf(items), parallelism, task));
+    }
+
+    /**
+     * Starts the given task for each of the items using at most the given number of threads, without waiting for
+     * them.
+     *
+     * @param items       items to run the task for
+     * @param parallelism maximum number of threads
+     * @param task        task to run for each item, which must not depend on the other items
+     * @param <T>         type of the items
+     * @return future which is completed when the task is complete for all the items
+     */
+    public synchronized <T> CompletableFuture<Void> forEachAsync(List<T> items, int parallelism,
+                                                              Consumer<? super T> task) {
+        // each worker takes the next item until none are left, so that at most parallelism items are run at a time
+        AtomicInteger nextIndex = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = nextIndex.getAndIncrement(); i < items.size(); i = nextIndex.getAndIncrement()) {
+                task.accept(items.get(i));
+            }
+        };
+        ForkJoinPool pool = pool(parallelism);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, items.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(worker, pool);
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    /**
+     * Starts the given task without waiting for it.
+     *
+     * @param task        task to run
+     * @param parallelism maximum number of threads of the pool
+     * @return future which is completed when the task is complete
+     */
+    public synchronized CompletableFuture<Void> runAsync(Runnable task, int parallelism) {
+        return CompletableFuture.runAsync(task, pool(parallelism));
+    }
+
+    /**
+     * Shuts down the pool once the tasks which are already started are complete.
+     */
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Waits for the given future, and throws the exception of the failed task as it is.
+     *
+     * @param future future to wait for
+     * @param <T>    type of the result
+     * @return result of the future
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ForkJoinPool pool(int parallelism) {
+        if (pool == null || pool.getParallelism() < parallelism) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            pool = new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+}
@@ -28,10 +28,12 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -44,13 +46,19 @@ import java.util.Optional;
  * - version
  * - bir
  * - mod1.bir
+ * - mod1.key
  * - mod2.bir
+ * - mod2.key
  * - jar
  * - org-package-name-version.jar
+ * <p>
+ * The key file of a module holds the key of the compilation which generated its BIR and JAR files. It is written
+ * after both of them, and is removed before they are replaced.
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String KEY_FILE_EXT = ".key";
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -78,16 +86,63 @@ public class FileSystemCache extends CompilationCache {
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
+        try {
+            writeAtomically(birFilePath, birContent.toByteArray());
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getCacheKey(ModuleName moduleName) {
+        Path keyFilePath = getKeyFilePath(moduleName);
+        if (!Files.exists(keyFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(keyFilePath));
+        } catch (IOException e) {
+            // an unreadable key is a cache miss
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheKey(ModuleName moduleName, String cacheKey) {
+        try {
+            writeAtomically(getKeyFilePath(moduleName), cacheKey.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the key of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void clearCacheKey(ModuleName moduleName) {
+        try {
+            Files.deleteIfExists(getKeyFilePath(moduleName));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to clear the cache key of module: " + moduleName, e);
+        }
+    }
+
+    private Path getKeyFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + KEY_FILE_EXT);
+    }
+
+    private static void writeAtomically(Path filePath, byte[] content) throws IOException {
+        Files.createDirectories(filePath.getParent());
+        Path tempFilePath = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFilePath, content);
             try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
-            } catch (IOException e) {
-                // TODO proper error handling
-                throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
             }
+        } finally {
+            Files.deleteIfExists(tempFilePath);
         }
     }
 
@@ -67,6 +67,7 @@ public enum CompilerOptionName {
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
     LOCKING_MODE("lockingMode"),
+    COMPILATION_PARALLELISM("compilationParallelism"),
 
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.objectweb.asm.TypePath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ASM9;
+
+/**
+ * Records the events of a generated class, so that the class can be written by a {@link BallerinaClassWriter} later,
+ * possibly in another thread. Computing the stack map frames of the methods is the most expensive part of writing a
+ * class, and this allows it to be done for several classes in parallel once the code generation, which shares state
+ * between the classes, has completed.
+ * <p>
+ * The events are replayed in the order they were recorded, including those of methods which were generated
+ * interleaved with each other, so the class file is the same as the one written directly by a class writer.
+ *
+ * @since 2201.13.0
+ */
+public class ClassRecorder extends ClassVisitor {
+
+    private final List<Runnable> events = new ArrayList<>();
+    private ClassWriter writer;
+
+    public ClassRecorder() {
+        super(ASM9);
+    }
+
+    /**
+     * Writes the recorded class to a new class writer which computes the frames of the methods.
+     *
+     * @return class writer containing the class
+     */
+    public ClassWriter write() {
+        writer = new BallerinaClassWriter(COMPUTE_FRAMES);
+        for (Runnable event : events) {
+            event.run();
+        }
+        return writer;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName,
+                      String[] interfaces) {
+        events.add(() -> writer.visit(version, access, name, signature, superName, interfaces));
+    }
+
+    @Override
+    public void visitSource(String source, String debug) {
+        events.add(() -> writer.visitSource(source, debug));
+    }
+
+    @Override
+    public ModuleVisitor visitModule(String name, int access, String version) {
+        ModuleRecorder module = new ModuleRecorder();
+        events.add(() -> module.target = writer.visitModule(name, access, version));
+        return module;
+    }
+
+    @Override
+    public void visitNestHost(String nestHost) {
+        events.add(() -> writer.visitNestHost(nestHost));
+    }
+
+    @Override
+    public void visitOuterClass(String owner, String name, String descriptor) {
+        events.add(() -> writer.visitOuterClass(owner, name, descriptor));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+        return recordAnnotation(() -> writer.visitAnnotation(descriptor, visible));
+    }
+
+    @Override
+    public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                 boolean visible) {
+        return recordAnnotation(() -> writer.visitTypeAnnotation(typeRef, typePath, descriptor, visible));
+    }
+
+    @Override
+    public void visitAttribute(Attribute attribute) {
+        events.add(() -> writer.visitAttribute(attribute));
+    }
+
+    @Override
+    public void visitNestMember(String nestMember) {
+        events.add(() -> writer.visitNestMember(nestMember));
+    }
+
+    @Override
+    public void visitPermittedSubclass(String permittedSubclass) {
+        events.add(() -> writer.visitPermittedSubclass(permittedSubclass));
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName, int access) {
+        events.add(() -> writer.visitInnerClass(name, outerName, innerName, access));
+    }
+
+    @Override
+    public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+        RecordComponentRecorder recordComponent = new RecordComponentRecorder();
+        events.add(() -> recordComponent.target = writer.visitRecordComponent(name, descriptor, signature));
+        return recordComponent;
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        FieldRecorder field = new FieldRecorder();
+        events.add(() -> field.target = writer.visitField(access, name, descriptor, signature, value));
+        return field;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                     String[] exceptions) {
+        MethodRecorder method = new MethodRecorder();
+        events.add(() -> method.target = writer.visitMethod(access, name, descriptor, signature, exceptions));
+        return method;
+    }
+
+    @Override
+    public void visitEnd() {
+        events.add(() -> writer.visitEnd());
+    }
+
+    private AnnotationVisitor recordAnnotation(Supplier<AnnotationVisitor> visit) {
+        AnnotationRecorder annotation = new AnnotationRecorder();
+        events.add(() -> annotation.target = visit.get());
+        return annotation;
+    }
+
+    private class ModuleRecorder extends ModuleVisitor {
+
+        private ModuleVisitor target;
+
+        private ModuleRecorder() {
+            super(ASM9);
+        }
+
+        @Override
+        public void visitMainClass(String mainClass) {
+            events.add(() -> target.visitMainClass(mainClass));
+        }
+
+        @Override
+        public void visitPackage(String packaze) {
+            events.add(() -> target.visitPackage(packaze));
+        }
+
+        @Override
+        public void visitRequire(String module, int access, String version) {
+            events.add(() -> target.visitRequire(module, access, version));
+        }
+
+        @Override
+        public void visitExport(String packaze, int access, String... modules) {
+            events.add(() -> target.visitExport(packaze, access, modules));
+        }
+
+        @Override
+        public void visitOpen(String packaze, int access, String... modules) {
+            events.add(() -> target.visitOpen(packaze, access, modules));
+        }
+
+        @Override
+        public void visitUse(String service) {
+            events.add(() -> target.visitUse(service));
+        }
+
+        @Override
+        public void visitProvide(String service, String... providers) {
+            events.add(() -> target.visitProvide(service, providers));
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add(() -> target.visitEnd());
+        }
+    }
+
+    private class RecordComponentRecorder extends RecordComponentVisitor {
+
+        private RecordComponentVisitor target;
+
+        private RecordComponentRecorder() {
+            super(ASM9);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return recordAnnotation(() -> target.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                     boolean visible) {
+            return recordAnnotation(() -> target.visitTypeAnnotation(typeRef, typePath, descriptor, visible));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            events.add(() -> target.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add(() -> target.visitEnd());
+        }
+    }
+
+    private class FieldRecorder extends FieldVisitor {
+
+        private FieldVisitor target;
+
+        private FieldRecorder() {
+            super(ASM9);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return recordAnnotation(() -> target.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                     boolean visible) {
+            return recordAnnotation(() -> target.visitTypeAnnotation(typeRef, typePath, descriptor, visible));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            events.add(() -> target.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add(() -> target.visitEnd());
+        }
+    }
+
+    private class MethodRecorder extends MethodVisitor {
+
+        private MethodVisitor target;
+
+        private MethodRecorder() {
+            super(ASM9);
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+            events.add(() -> target.visitParameter(name, access));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            return recordAnnotation(() -> target.visitAnnotationDefault());
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return recordAnnotation(() -> target.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                     boolean visible) {
+            return recordAnnotation(() -> target.visitTypeAnnotation(typeRef, typePath, descriptor, visible));
+        }
+
+        @Override
+        public void visitAnnotableParameterCount(int parameterCount, boolean visible) {
+            events.add(() -> target.visitAnnotableParameterCount(parameterCount, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor, boolean visible) {
+            return recordAnnotation(() -> target.visitParameterAnnotation(parameter, descriptor, visible));
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            events.add(() -> target.visitAttribute(attribute));
+        }
+
+        @Override
+        public void visitCode() {
+            events.add(() -> target.visitCode());
+        }
+
+        @Override
+        public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+            Object[] locals = local == null ? null : local.clone();
+            Object[] stackItems = stack == null ? null : stack.clone();
+            events.add(() -> target.visitFrame(type, numLocal, locals, numStack, stackItems));
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            events.add(() -> target.visitInsn(opcode));
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            events.add(() -> target.visitIntInsn(opcode, operand));
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            events.add(() -> target.visitVarInsn(opcode, varIndex));
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            events.add(() -> target.visitTypeInsn(opcode, type));
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            events.add(() -> target.visitFieldInsn(opcode, owner, name, descriptor));
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            events.add(() -> target.visitMethodInsn(opcode, owner, name, descriptor, isInterface));
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                                           Object... bootstrapMethodArguments) {
+            Object[] arguments = bootstrapMethodArguments.clone();
+            events.add(() -> target.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, arguments));
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            events.add(() -> target.visitJumpInsn(opcode, label));
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            events.add(() -> target.visitLabel(label));
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            events.add(() -> target.visitLdcInsn(value));
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            events.add(() -> target.visitIincInsn(varIndex, increment));
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            Label[] cases = labels.clone();
+            events.add(() -> target.visitTableSwitchInsn(min, max, dflt, cases));
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            int[] caseKeys = keys.clone();
+            Label[] cases = labels.clone();
+            events.add(() -> target.visitLookupSwitchInsn(dflt, caseKeys, cases));
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            events.add(() -> target.visitMultiANewArrayInsn(descriptor, numDimensions));
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                     boolean visible) {
+            return recordAnnotation(() -> target.visitInsnAnnotation(typeRef, typePath, descriptor, visible));
+        }
+
+        @Override
+        public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+            events.add(() -> target.visitTryCatchBlock(start, end, handler, type));
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                         boolean visible) {
+            return recordAnnotation(() -> target.visitTryCatchAnnotation(typeRef, typePath, descriptor, visible));
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end,
+                                       int index) {
+            events.add(() -> target.visitLocalVariable(name, descriptor, signature, start, end, index));
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start,
+                                                              Label[] end, int[] index, String descriptor,
+                                                              boolean visible) {
+            return recordAnnotation(() -> target.visitLocalVariableAnnotation(typeRef, typePath, start, end, index,
+                    descriptor, visible));
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            events.add(() -> target.visitLineNumber(line, start));
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            events.add(() -> target.visitMaxs(maxStack, maxLocals));
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add(() -> target.visitEnd());
+        }
+    }
+
+    private class AnnotationRecorder extends AnnotationVisitor {
+
+        private AnnotationVisitor target;
+
+        private AnnotationRecorder() {
+            super(ASM9);
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            events.add(() -> target.visit(name, value));
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            events.add(() -> target.visitEnum(name, descriptor, value));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            return recordAnnotation(() -> target.visitAnnotation(name, descriptor));
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            return recordAnnotation(() -> target.visitArray(name));
+        }
+
+        @Override
+        public void visitEnd() {
+            events.add(() -> target.visitEnd());
+        }
+    }
+}
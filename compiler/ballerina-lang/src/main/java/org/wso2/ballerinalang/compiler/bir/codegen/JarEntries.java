@@ -18,33 +18,33 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
-import io.ballerina.projects.ProjectException;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
 
 /**
  * This class holds .class files as entries of a program JAR file and converts them into a ByteArrayOutputStream.
+ * <p>
+ * The entries are compressed only when the JAR is converted, so that it can be done in another thread once the code
+ * generation of the module is complete.
  *
  * @since 2201.10.0
  */
 public class JarEntries {
-    private final ByteArrayOutputStream byteArrayOutputStream;
-    private final JarOutputStream entries;
+    private final String mainClassName;
+    private final List<Entry> entries = new ArrayList<>();
 
     protected JarEntries(String mainClassName) {
-        this.byteArrayOutputStream = new ByteArrayOutputStream();
-        try {
-            entries = new JarOutputStream(this.byteArrayOutputStream, getManifest(mainClassName));
-        } catch (IOException e) {
-            throw new ProjectException("Failed to create the JarOutputStream to cache jar entries", e);
-        }
+        this.mainClassName = mainClassName;
     }
 
     private static Manifest getManifest(String mainClassName) {
@@ -56,31 +56,28 @@ public class JarEntries {
     }
 
     public void put(String key, byte[] value) {
-        JarEntry entry = new JarEntry(key);
-        try {
-            entries.putNextEntry(entry);
-            entries.write(value);
-            entries.closeEntry();
-        } catch (IOException e) {
-            throw new ProjectException("Failed to put the jar entry", e);
-        }
+        entries.add(new Entry(new JarEntry(key), value));
     }
 
     public void putResourceEntries(Map<String, byte[]> resources) {
-        try {
-            for (Map.Entry<String, byte[]> entry : resources.entrySet()) {
-                JarArchiveEntry e = new JarArchiveEntry(entry.getKey());
-                entries.putNextEntry(e);
-                entries.write(entry.getValue());
-                entries.closeEntry();
-            }
-        } catch (IOException e) {
-            throw new ProjectException("Failed to put the resource entries", e);
+        for (Map.Entry<String, byte[]> entry : resources.entrySet()) {
+            entries.add(new Entry(new JarArchiveEntry(entry.getKey()), entry.getValue()));
         }
     }
 
     protected ByteArrayOutputStream getByteArrayOutputStream() throws IOException {
-        entries.close();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (JarOutputStream jarOutputStream = new JarOutputStream(byteArrayOutputStream,
+                getManifest(mainClassName))) {
+            for (Entry entry : entries) {
+                jarOutputStream.putNextEntry(entry.header());
+                jarOutputStream.write(entry.content());
+                jarOutputStream.closeEntry();
+            }
+        }
         return byteArrayOutputStream;
     }
+
+    private record Entry(ZipEntry header, byte[] content) {
+    }
 }
@@ -25,7 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -249,7 +249,7 @@ public final class JvmCodeGenUtil {
         }
     }
 
-    public static void generateDefaultConstructor(ClassWriter cw, String ownerClass) {
+    public static void generateDefaultConstructor(ClassVisitor cw, String ownerClass) {
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 0);
@@ -259,7 +259,7 @@ public final class JvmCodeGenUtil {
         mv.visitEnd();
     }
 
-    public static void generateInitClassConstructor(ClassWriter cw, String ownerClass) {
+    public static void generateInitClassConstructor(ClassVisitor cw, String ownerClass) {
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, JVM_INIT_METHOD, INIT_CLASS_CONSTRUCTOR, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 0);
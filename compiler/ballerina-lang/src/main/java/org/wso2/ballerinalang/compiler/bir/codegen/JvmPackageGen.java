@@ -19,12 +19,14 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.identifier.Utils;
+import io.ballerina.projects.internal.ParallelTasks;
 import io.ballerina.types.Env;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodTooLargeException;
@@ -69,17 +71,21 @@ import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.Unifier;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -139,6 +145,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
 public class JvmPackageGen {
 
     private static final Unifier unifier = new Unifier();
+    // classes written in a batch for each class writer thread, so that the threads are kept busy
+    private static final int CLASSES_PER_WRITER = 4;
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final MethodGen methodGen;
@@ -149,10 +157,12 @@ public class JvmPackageGen {
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
+    private final ParallelTasks parallelTasks;
+    private final int classWriterParallelism;
     private final Env typeEnv;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types,
-                  boolean isRemoteMgtEnabled) {
+                  boolean isRemoteMgtEnabled, ParallelTasks parallelTasks, int classWriterParallelism) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         this.symbolTable = symbolTable;
@@ -160,6 +170,8 @@ public class JvmPackageGen {
         this.dlog = dlog;
         this.types = types;
         this.isRemoteMgtEnabled = isRemoteMgtEnabled;
+        this.parallelTasks = parallelTasks;
+        this.classWriterParallelism = classWriterParallelism;
         methodGen = new MethodGen(this, types);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
@@ -225,7 +237,7 @@ public class JvmPackageGen {
                 moduleId.name.value.equals(ENCODED_JAVA_MODULE);
     }
 
-    private static void generatePackageVariable(BIRGlobalVariableDcl globalVar, ClassWriter cw) {
+    private static void generatePackageVariable(BIRGlobalVariableDcl globalVar, ClassVisitor cw) {
         String varName = globalVar.name.value;
         BType bType = globalVar.type;
         String descriptor = JvmCodeGenUtil.getFieldTypeSignature(bType);
@@ -233,13 +245,13 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
-    private static void generateLockStoreVariable(ClassWriter cw) {
+    private static void generateLockStoreVariable(ClassVisitor cw) {
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, LOCK_STORE_VAR_NAME, GET_LOCK_STORE, null, null);
         fv.visitEnd();
     }
 
-    private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
+    private static void generateStaticInitializer(ClassVisitor cw, String className, BIRPackage birPackage,
                                                   boolean isInitClass, boolean serviceEPAvailable,
                                                   JvmConstantsGen jvmConstantsGen) {
         if (!isInitClass) {
@@ -272,7 +284,7 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
-    private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
+    private static void setServiceEPAvailableField(ClassVisitor cw, MethodVisitor mv, boolean serviceEPAvailable,
                                                    String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
         fv.visitEnd();
@@ -285,7 +297,7 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, initClass, SERVICE_EP_AVAILABLE, "Z");
     }
 
-    private static void setModuleStatusField(ClassWriter cw, MethodVisitor mv, String initClass) {
+    private static void setModuleStatusField(ClassVisitor cw, MethodVisitor mv, String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, MODULE_START_ATTEMPTED, "Z", null, null);
         fv.visitEnd();
 
@@ -308,7 +320,7 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, initClass, NO_OF_DEPENDANT_MODULES, "I");
     }
 
-    private static void setCurrentModuleField(ClassWriter cw, MethodVisitor mv, JvmConstantsGen jvmConstantsGen,
+    private static void setCurrentModuleField(ClassVisitor cw, MethodVisitor mv, JvmConstantsGen jvmConstantsGen,
                                               PackageID packageID, String moduleInitClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, CURRENT_MODULE_VAR_NAME, GET_MODULE, null, null);
         fv.visitEnd();
@@ -363,8 +375,9 @@ public class JvmPackageGen {
                                        JvmConstantsGen jvmConstantsGen, Map<String, JavaClass> jvmClassMapping,
                                        boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc,
                                        AsyncDataCollector asyncDataCollector, Set<PackageID> immediateImports) {
+        ClassBatch moduleClasses = newClassBatch(jarEntries);
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassRecorder cw = new ClassRecorder();
             asyncDataCollector.setCurrentSourceFileName(javaClass.sourceFileName);
             asyncDataCollector.setCurrentSourceFileWithoutExt(javaClass.cleanedBalFileName);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
@@ -410,9 +423,38 @@ public class JvmPackageGen {
             generateStaticInitializer(cw, moduleClass, module, isInitClass, serviceEPAvailable,
                     jvmConstantsGen);
             cw.visitEnd();
-            byte[] bytes = getBytes(cw, module);
-            jarEntries.put(moduleClass + CLASS_FILE_SUFFIX, bytes);
+            moduleClasses.add(new RecordedClass(moduleClass, cw, module));
         });
+        moduleClasses.flush();
+    }
+
+    /**
+     * Creates a batch which writes the classes recorded for a module to the given jar entries.
+     *
+     * @param jarEntries jar entries to add the classes to
+     * @return empty class batch
+     */
+    ClassBatch newClassBatch(JarEntries jarEntries) {
+        return new ClassBatch(jarEntries, Math.max(classWriterParallelism, 1) * CLASSES_PER_WRITER);
+    }
+
+    /**
+     * Starts writing the given classes, computing the frames of their methods in parallel. The classes are written in
+     * the calling thread if the class writers are not run in parallel.
+     *
+     * @param classes recorded classes
+     * @return classes being written
+     */
+    private WrittenClasses writeClasses(List<RecordedClass> classes) {
+        ClassWriter[] classWriters = new ClassWriter[classes.size()];
+        List<Integer> indexes = IntStream.range(0, classes.size()).boxed().toList();
+        Consumer<Integer> write = i -> classWriters[i] = classes.get(i).recorder().write();
+        if (classWriterParallelism <= 1) {
+            indexes.forEach(write);
+            return new WrittenClasses(classes, classWriters, CompletableFuture.completedFuture(null));
+        }
+        return new WrittenClasses(classes, classWriters,
+                parallelTasks.forEachAsync(indexes, classWriterParallelism, write));
     }
 
     /**
@@ -794,4 +836,89 @@ public class JvmPackageGen {
         }
         return false;
     }
+
+    /**
+     * A class recorded during code generation, which is written to the jar entries once all the classes of the
+     * module are generated.
+     *
+     * @param className name of the class
+     * @param recorder  recorded events of the class
+     * @param node      node the class is generated for, which is used to report errors when writing it
+     */
+    record RecordedClass(String className, ClassRecorder recorder, BIRNode node) {
+    }
+
+    /**
+     * Classes of a batch which are being written.
+     *
+     * @param classes      recorded classes
+     * @param classWriters class writers of the classes, which are set once they are written
+     * @param written      future which is completed once all the classes are written
+     */
+    private record WrittenClasses(List<RecordedClass> classes, ClassWriter[] classWriters,
+                                  CompletableFuture<Void> written) {
+    }
+
+    /**
+     * Classes recorded during code generation, which are written to the jar entries whenever a batch of them is
+     * complete. A complete batch is written by the shared pool of the compilation while the classes of the next
+     * batch are generated, and the written classes are added to the jar entries in the order they were recorded.
+     * Only the events of the classes in the current and the pending batches are held in memory, rather than those
+     * of every class of the module.
+     */
+    class ClassBatch {
+
+        // batches being written while the next one is generated, which bounds the classes held in memory
+        private static final int MAX_PENDING_BATCHES = 2;
+
+        private final List<RecordedClass> classes = new ArrayList<>();
+        private final Deque<WrittenClasses> pendingBatches = new ArrayDeque<>();
+        private final JarEntries jarEntries;
+        private final int batchSize;
+
+        private ClassBatch(JarEntries jarEntries, int batchSize) {
+            this.jarEntries = jarEntries;
+            this.batchSize = batchSize;
+        }
+
+        void add(RecordedClass recordedClass) {
+            classes.add(recordedClass);
+            if (classes.size() >= batchSize) {
+                startBatch();
+            }
+        }
+
+        /**
+         * Writes the classes added since the last flush, and waits until all of them are added to the jar entries.
+         */
+        void flush() {
+            startBatch();
+            while (!pendingBatches.isEmpty()) {
+                addToJarEntries(pendingBatches.poll());
+            }
+        }
+
+        private void startBatch() {
+            if (classes.isEmpty()) {
+                return;
+            }
+            pendingBatches.add(writeClasses(List.copyOf(classes)));
+            classes.clear();
+            while (!pendingBatches.isEmpty() && (pendingBatches.size() > MAX_PENDING_BATCHES ||
+                    pendingBatches.peek().written().isDone())) {
+                addToJarEntries(pendingBatches.poll());
+            }
+        }
+
+        private void addToJarEntries(WrittenClasses writtenClasses) {
+            ParallelTasks.join(writtenClasses.written());
+            // errors of the classes are reported in the calling thread, since the diagnostic log is not thread safe
+            List<RecordedClass> writtenClassList = writtenClasses.classes();
+            for (int i = 0; i < writtenClassList.size(); i++) {
+                RecordedClass recordedClass = writtenClassList.get(i);
+                jarEntries.put(recordedClass.className() + CLASS_FILE_SUFFIX,
+                        getBytes(writtenClasses.classWriters()[i], recordedClass.node()));
+            }
+        }
+    }
 }
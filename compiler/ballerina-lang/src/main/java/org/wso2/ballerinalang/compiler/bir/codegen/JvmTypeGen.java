@@ -32,6 +32,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.types.SelectivelyImmutableReferenceType;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
@@ -247,7 +248,7 @@ public class JvmTypeGen {
      * @param cw       class writer
      * @param typeDefs array of type definitions
      */
-    void generateUserDefinedTypeFields(ClassWriter cw, List<BIRTypeDefinition> typeDefs) {
+    void generateUserDefinedTypeFields(ClassVisitor cw, List<BIRTypeDefinition> typeDefs) {
         // create the type
         for (BIRTypeDefinition typeDef : typeDefs) {
             BType bType = typeDef.type;
@@ -262,13 +263,13 @@ public class JvmTypeGen {
         }
     }
 
-    private void generateTypeField(ClassWriter cw, String name) {
+    private void generateTypeField(ClassVisitor cw, String name) {
         String fieldName = getTypeFieldName(name);
         FieldVisitor fv = cw.visitField(ACC_STATIC + ACC_PUBLIC, fieldName, GET_TYPE, null, null);
         fv.visitEnd();
     }
 
-    private void generateTypedescField(ClassWriter cw, String name) {
+    private void generateTypedescField(ClassVisitor cw, String name) {
         String typedescFieldName = getTypedescFieldName(name);
         FieldVisitor fvTypeDesc = cw.visitField(ACC_STATIC + ACC_PUBLIC, typedescFieldName, GET_TYPEDESC, null, null);
         fvTypeDesc.visitEnd();
@@ -278,11 +279,11 @@ public class JvmTypeGen {
     //              getType() generation methods
     // -------------------------------------------------------
 
-    void generateGetTypeMethod(ClassWriter cw, String moduleClass) {
+    void generateGetTypeMethod(ClassVisitor cw, String moduleClass) {
         generateGetAnonTypeMethod(cw, moduleClass);
         generateGetFunctionTypeMethod(cw);
     }
-    void generateGetAnonTypeMethod(ClassWriter cw,  String moduleClass) {
+    void generateGetAnonTypeMethod(ClassVisitor cw,  String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_ANON_TYPE_METHOD,
                 JvmSignatures.GET_ANON_TYPE, null, null);
         mv.visitCode();
@@ -294,7 +295,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    void generateGetFunctionTypeMethod(ClassWriter cw) {
+    void generateGetFunctionTypeMethod(ClassVisitor cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_FUNCTION_TYPE_METHOD, GET_FUNCTION_TYPE_FOR_STRING, null,
                 null);
         mv.visitCode();
@@ -310,14 +311,14 @@ public class JvmTypeGen {
     //              Runtime value creation methods
     // -------------------------------------------------------
 
-    void generateValueCreatorMethods(ClassWriter cw, String moduleClass) {
+    void generateValueCreatorMethods(ClassVisitor cw, String moduleClass) {
         generateRecordValueCreateMethod(cw, moduleClass);
         generateObjectValueCreateMethod(cw, moduleClass);
         generateErrorValueCreateMethod(cw, moduleClass);
         generateFunctionCallMethod(cw, moduleClass);
     }
 
-    private void generateRecordValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateRecordValueCreateMethod(ClassVisitor cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_RECORD_VALUE,
                 CREATE_RECORD,
                 CREATE_RECORD_WITH_MAP, null);
@@ -329,7 +330,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateObjectValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateObjectValueCreateMethod(ClassVisitor cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_OBJECT_VALUE, CREATE_OBJECT, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 1);
@@ -341,7 +342,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateErrorValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateErrorValueCreateMethod(ClassVisitor cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_ERROR_VALUE,
                 CREATE_ERROR, null,
                 null);
@@ -356,7 +357,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateFunctionCallMethod(ClassWriter cw, String moduleClass) {
+    private void generateFunctionCallMethod(ClassVisitor cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CALL_FUNCTION, FUNCTION_CALL, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 1);
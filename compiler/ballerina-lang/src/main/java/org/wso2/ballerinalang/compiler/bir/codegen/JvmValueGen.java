@@ -19,10 +19,12 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.types.Env;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.ClassBatch;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.RecordedClass;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.InitMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen;
@@ -47,7 +49,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -75,7 +76,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ABSTRACT_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_LOCK_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -188,6 +188,7 @@ public class JvmValueGen {
     void generateValueClasses(JarEntries jarEntries, JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
                               AsyncDataCollector asyncDataCollector) {
         String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
+        ClassBatch valueClasses = jvmPackageGen.newClassBatch(jarEntries);
         module.typeDefs.forEach(optionalTypeDef -> {
             if (optionalTypeDef.type.tag == TypeTags.TYPEREFDESC) {
                 return;
@@ -201,23 +202,23 @@ public class JvmValueGen {
                     Symbols.isFlagOn(optionalTypeDef.type.tsymbol.flags, Flags.CLASS)) {
                 BObjectType objectType = (BObjectType) optionalTypeDef.type;
                 this.createObjectValueClasses(objectType, className, optionalTypeDef, jvmConstantsGen,
-                        asyncDataCollector, jarEntries);
+                        asyncDataCollector, valueClasses);
             } else if (bType.tag == TypeTags.RECORD) {
                 BRecordType recordType = (BRecordType) bType;
-                byte[] bytes = this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(className + CLASS_FILE_SUFFIX, bytes);
+                valueClasses.add(this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen));
                 String typedescClass = getTypeDescClassName(packageName, optionalTypeDef.internalName.value);
-                bytes = this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(typedescClass + CLASS_FILE_SUFFIX, bytes);
+                valueClasses.add(this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef,
+                        jvmTypeGen));
             }
         });
+        valueClasses.flush();
     }
 
 
-    private byte[] createRecordTypeDescClass(BRecordType recordType, String className,
-                                             BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen) {
+    private RecordedClass createRecordTypeDescClass(BRecordType recordType, String className,
+                                                    BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen) {
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassRecorder cw = new ClassRecorder();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -234,10 +235,10 @@ public class JvmValueGen {
         this.createInstantiateMethodWithInitialValues(cw, recordType, typeDef, className);
 
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        return new RecordedClass(className, cw, typeDef);
     }
 
-    private void createInstantiateMethod(ClassWriter cw, BRecordType recordType, JvmTypeGen jvmTypeGen,
+    private void createInstantiateMethod(ClassVisitor cw, BRecordType recordType, JvmTypeGen jvmTypeGen,
                                          String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INSTANTIATE_FUNCTION, INSTANTIATE, null, null);
         mv.visitCode();
@@ -249,7 +250,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createInstantiateMethodWithInitialValues(ClassWriter cw, BRecordType recordType,
+    private void createInstantiateMethodWithInitialValues(ClassVisitor cw, BRecordType recordType,
                                          BIRNode.BIRTypeDefinition typeDef, String typeClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INSTANTIATE_FUNCTION, INSTANTIATE_WITH_INITIAL_VALUES,
                 null, null);
@@ -298,9 +299,9 @@ public class JvmValueGen {
         return getTypeValueClassName(JvmCodeGenUtil.getPackageName(packageID), typeName);
     }
 
-    private byte[] createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
-                                          JvmTypeGen jvmTypeGen) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+    private RecordedClass createRecordValueClass(BRecordType recordType, String className,
+                                                 BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen) {
+        ClassRecorder cw = new ClassRecorder();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -327,10 +328,10 @@ public class JvmValueGen {
         this.createRecordConstructor(cw, TYPE_PARAMETER, className);
         cw.visitEnd();
 
-        return jvmPackageGen.getBytes(cw, typeDef);
+        return new RecordedClass(className, cw, typeDef);
     }
 
-    private void createTypeDescConstructor(ClassWriter cw, String className) {
+    private void createTypeDescConstructor(ClassVisitor cw, String className) {
 
         String descriptor = TYPE_DESC_CONSTRUCTOR;
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, descriptor, null, null);
@@ -350,7 +351,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createTypeDescConstructorWithAnnotations(ClassWriter cw, String name) {
+    private void createTypeDescConstructorWithAnnotations(ClassVisitor cw, String name) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, TYPE_DESC_CONSTRUCTOR_WITH_ANNOTATIONS, null,
                 null);
         mv.visitCode();
@@ -375,7 +376,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordConstructor(ClassWriter cw, String argumentClass, String className) {
+    private void createRecordConstructor(ClassVisitor cw, String argumentClass, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, argumentClass, null, null);
         mv.visitCode();
 
@@ -390,7 +391,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordFields(ClassWriter cw, Map<String, BField> fields) {
+    private void createRecordFields(ClassVisitor cw, Map<String, BField> fields) {
         for (BField field : fields.values()) {
             if (field == null) {
                 continue;
@@ -408,7 +409,7 @@ public class JvmValueGen {
     }
 
 
-    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createGetSizeMethod(ClassVisitor cw, Map<String, BField> fields, String className) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
         mv.visitCode();
@@ -442,7 +443,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordPopulateInitialValuesMethod(ClassWriter cw, String className) {
+    private void createRecordPopulateInitialValuesMethod(ClassVisitor cw, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, POPULATE_INITIAL_VALUES_METHOD,
                                           POPULATE_INITIAL_VALUES, null, null);
         mv.visitCode();
@@ -457,8 +458,8 @@ public class JvmValueGen {
 
     private void createObjectValueClasses(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
                                           JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
-                                          JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                                          ClassBatch valueClasses) {
+        ClassRecorder cw = new ClassRecorder();
         cw.visitSource(typeDef.pos.lineRange().fileName(), null);
 
         SymbolTable symbolTable = jvmPackageGen.symbolTable;
@@ -472,7 +473,7 @@ public class JvmValueGen {
         List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
         if (attachedFuncs.size() > MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
             this.createObjectMethodsWithSplitClasses(cw, attachedFuncs, className, objectType, jvmTypeGen,
-                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef, jarEntries);
+                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef, valueClasses);
         } else {
             this.createObjectMethods(cw, attachedFuncs, className, objectType, jvmTypeGen, jvmCastGen,
                     jvmConstantsGen, asyncDataCollector);
@@ -484,10 +485,10 @@ public class JvmValueGen {
         jvmObjectGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
         jvmObjectGen.createAndSplitSetOnInitializationMethod(cw, fields, className);
         cw.visitEnd();
-        jarEntries.put(className + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(cw, typeDef));
+        valueClasses.add(new RecordedClass(className, cw, typeDef));
     }
 
-    private void createObjectFields(ClassWriter cw, Map<String, BField> fields) {
+    private void createObjectFields(ClassVisitor cw, Map<String, BField> fields) {
         for (BField field : fields.values()) {
             if (field == null) {
                 continue;
@@ -500,7 +501,7 @@ public class JvmValueGen {
         fv.visitEnd();
     }
 
-    private void createObjectMethods(ClassWriter cw, List<BIRFunction> attachedFuncs, String moduleClassName,
+    private void createObjectMethods(ClassVisitor cw, List<BIRFunction> attachedFuncs, String moduleClassName,
                                      BObjectType currentObjectType, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                      JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
         for (BIRNode.BIRFunction func : attachedFuncs) {
@@ -509,15 +510,15 @@ public class JvmValueGen {
         }
     }
 
-    private void createObjectMethodsWithSplitClasses(ClassWriter cw, List<BIRFunction> attachedFuncs,
+    private void createObjectMethodsWithSplitClasses(ClassVisitor cw, List<BIRFunction> attachedFuncs,
                                                      String moduleClassName, BObjectType currentObjectType,
                                                      JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                                      JvmConstantsGen jvmConstantsGen,
                                                      AsyncDataCollector asyncDataCollector,
                                                      BIRNode.BIRTypeDefinition typeDef,
-                                                     JarEntries jarEntries) {
+                                                     ClassBatch valueClasses) {
         int splitClassNum = 1;
-        ClassWriter splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassRecorder splitCW = new ClassRecorder();
         splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
         String splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
         splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -537,10 +538,9 @@ public class JvmValueGen {
             methodCountPerSplitClass++;
             if (methodCountPerSplitClass == MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
                 splitCW.visitEnd();
-                byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-                jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+                valueClasses.add(new RecordedClass(splitClassName, splitCW, typeDef));
                 splitClassNum++;
-                splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+                splitCW = new ClassRecorder();
                 splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
                 splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
                 splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -550,12 +550,11 @@ public class JvmValueGen {
         }
         if (methodCountPerSplitClass != 0) {
             splitCW.visitEnd();
-            byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-            jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+            valueClasses.add(new RecordedClass(splitClassName, splitCW, typeDef));
         }
     }
 
-    private void createObjectInit(ClassWriter cw, String className) {
+    private void createObjectInit(ClassVisitor cw, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, OBJECT_TYPE_IMPL_INIT, null,
                 null);
         mv.visitCode();
@@ -577,7 +576,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordClearMethod(ClassWriter cw, String className) {
+    private void createRecordClearMethod(ClassVisitor cw, String className) {
         // throw an UnsupportedOperationException, since clear is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "clear", VOID_METHOD_DESC, null, null);
         mv.visitCode();
@@ -21,7 +21,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.interop;
 import io.ballerina.types.Env;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
@@ -131,7 +131,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
  */
 public final class InteropMethodGen {
 
-    static void genJFieldForInteropField(JFieldBIRFunction birFunc, ClassWriter classWriter, PackageID birModule,
+    static void genJFieldForInteropField(JFieldBIRFunction birFunc, ClassVisitor cw, PackageID birModule,
                                          JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                          JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
                                          Types types) {
@@ -148,7 +148,7 @@ public final class InteropMethodGen {
 
         String desc = JvmCodeGenUtil.getMethodDesc(types.typeEnv(), birFunc.type.paramTypes, retType);
         int access = birFunc.receiver != null ? ACC_PUBLIC : ACC_PUBLIC + ACC_STATIC;
-        MethodVisitor mv = classWriter.visitMethod(access, birFunc.name.value, desc, null, null);
+        MethodVisitor mv = cw.visitMethod(access, birFunc.name.value, desc, null, null);
         JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, birModule, jvmPackageGen, jvmTypeGen,
                                                           jvmCastGen, jvmConstantsGen, asyncDataCollector, types);
         JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
@@ -20,7 +20,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
 
 import io.ballerina.identifier.Utils;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
@@ -142,7 +142,7 @@ public class InitMethodGen {
      * @param pkg       bir package
      * @param initClass module init class
      */
-    public void generateLambdaForPackageInit(ClassWriter cw, BIRNode.BIRPackage pkg, String initClass) {
+    public void generateLambdaForPackageInit(ClassVisitor cw, BIRNode.BIRPackage pkg, String initClass) {
         //need to generate lambda for package Init as well, if exist
         if (!MethodGenUtils.hasInitFunction(pkg)) {
             return;
@@ -152,7 +152,7 @@ public class InitMethodGen {
         invokeStopFunction(initClass, mv, funcName);
     }
 
-    public void generateLambdaForModuleExecuteFunction(ClassWriter cw, String initClass, JvmCastGen jvmCastGen,
+    public void generateLambdaForModuleExecuteFunction(ClassVisitor cw, String initClass, JvmCastGen jvmCastGen,
                                                        BIRNode.BIRFunction mainFunc,
                                                        BIRNode.BIRFunction testExecuteFunc) {
         String lambdaFuncName = LAMBDA_PREFIX + MODULE_EXECUTE_METHOD + "$";
@@ -194,7 +194,7 @@ public class InitMethodGen {
         MethodGenUtils.visitReturn(mv, lambdaFuncName, initClass);
     }
 
-    private MethodVisitor visitFunction(ClassWriter cw, String funcName) {
+    private MethodVisitor visitFunction(ClassVisitor cw, String funcName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, funcName, PASS_OBJECT_ARRAY_RETURN_OBJECT,
                 null, null);
         mv.visitCode();
@@ -213,7 +213,7 @@ public class InitMethodGen {
         MethodGenUtils.visitReturn(mv, methodName, initClass);
     }
 
-    public void generateModuleInitializer(ClassWriter cw, BIRNode.BIRPackage module, String typeOwnerClass,
+    public void generateModuleInitializer(ClassVisitor cw, BIRNode.BIRPackage module, String typeOwnerClass,
                                           String moduleInitClass) {
         // Using object return type since this is similar to a ballerina function without a return.
         // A ballerina function with no returns is equivalent to a function with nil-return.
@@ -242,7 +242,7 @@ public class InitMethodGen {
         MethodGenUtils.visitReturn(mv, CURRENT_MODULE_INIT_METHOD, typeOwnerClass);
     }
 
-    public void generateModuleStop(ClassWriter cw, String moduleInitClass, AsyncDataCollector asyncDataCollector,
+    public void generateModuleStop(ClassVisitor cw, String moduleInitClass, AsyncDataCollector asyncDataCollector,
                                    JvmConstantsGen jvmConstantsGen) {
         // Using object return type since this is similar to a ballerina function without a return.
         // A ballerina function with no returns is equivalent to a function with nil-return.
@@ -267,7 +267,7 @@ public class InitMethodGen {
         mv.visitVarInsn(ASTORE, 1);
     }
 
-    private String generateStopDynamicLambdaBody(ClassWriter cw, String initClass) {
+    private String generateStopDynamicLambdaBody(ClassVisitor cw, String initClass) {
         String lambdaName = LAMBDA_PREFIX + "stopdynamic";
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC + ACC_STATIC, lambdaName, PASS_OBJECT_ARRAY_RETURN_OBJECT,
                 null, null);
@@ -618,7 +618,7 @@ public class InitMethodGen {
         return nextId++;
     }
 
-    public void generateGetTestExecutionState(ClassWriter cw, String className) {
+    public void generateGetTestExecutionState(ClassVisitor cw, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, GET_TEST_EXECUTION_STATE, "()J",
                 null, null);
         mv.visitCode();
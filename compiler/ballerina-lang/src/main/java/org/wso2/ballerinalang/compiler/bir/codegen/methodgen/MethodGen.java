@@ -22,7 +22,7 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.types.Env;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -157,7 +157,7 @@ public class MethodGen {
         this.typeEnv = types.typeEnv();
     }
 
-    public void generateMethod(BIRFunction birFunc, ClassWriter cw, BIRPackage birModule, BType attachedType,
+    public void generateMethod(BIRFunction birFunc, ClassVisitor cw, BIRPackage birModule, BType attachedType,
                                String moduleClassName, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
         if (JvmCodeGenUtil.isExternFunc(birFunc)) {
@@ -170,7 +170,7 @@ public class MethodGen {
         }
     }
 
-    public void genJMethodWithBObjectMethodCall(BIRFunction func, ClassWriter cw, BIRPackage module,
+    public void genJMethodWithBObjectMethodCall(BIRFunction func, ClassVisitor cw, BIRPackage module,
                                                 JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                                 JvmConstantsGen jvmConstantsGen, String moduleClassName,
                                                 AsyncDataCollector asyncDataCollector,
@@ -224,7 +224,7 @@ public class MethodGen {
         }
     }
 
-    public void genJMethodForBFunc(BIRFunction func, ClassWriter cw, BIRPackage module,
+    public void genJMethodForBFunc(BIRFunction func, ClassVisitor cw, BIRPackage module,
                                    JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                    JvmConstantsGen jvmConstantsGen, String moduleClassName,
                                    BType attachedType, AsyncDataCollector asyncDataCollector,
@@ -19,7 +19,7 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.values;
 
 import org.ballerinalang.compiler.BLangCompilerException;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
@@ -85,7 +85,7 @@ public class JvmObjectGen {
 
     static final FieldNameHashComparator FIELD_NAME_HASH_COMPARATOR = new FieldNameHashComparator();
 
-    public void createAndSplitCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName,
+    public void createAndSplitCallMethod(ClassVisitor cw, List<BIRNode.BIRFunction> functions, String objClassName,
                                          JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -201,7 +201,7 @@ public class JvmObjectGen {
                 Symbols.isFlagOn(func.parameters.getFirst().type.getFlags(), Flags.SERVICE);
     }
 
-    public void createAndSplitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", PASS_B_STRING_RETURN_OBJECT,
                 PASS_OBJECT_RETURN_SAME_TYPE, null);
@@ -229,7 +229,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    private void splitObjectGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitObjectGetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                       JvmCastGen jvmCastGen) {
 
         int bTypesCount = 0;
@@ -293,7 +293,7 @@ public class JvmObjectGen {
         }
     }
 
-    public void createAndSplitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitSetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "set", SET_VALUE,
@@ -324,7 +324,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    public void createAndSplitSetOnInitializationMethod(ClassWriter cw, Map<String, BField> fields,
+    public void createAndSplitSetOnInitializationMethod(ClassVisitor cw, Map<String, BField> fields,
                                                         String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setOnInitialization",
                 SET_VALUE, null, null);
@@ -359,7 +359,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    private void splitObjectSplitMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitObjectSplitMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
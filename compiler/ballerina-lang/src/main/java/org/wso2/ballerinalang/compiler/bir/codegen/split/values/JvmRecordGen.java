@@ -19,7 +19,7 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.values;
 
 import org.ballerinalang.model.types.TypeKind;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
@@ -133,7 +133,7 @@ public class JvmRecordGen {
         this.floatType = symbolTable.floatType;
     }
 
-    public void createAndSplitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", PASS_OBJECT_RETURN_OBJECT,
                 PASS_OBJECT_RETURN_SAME_TYPE, null);
@@ -177,7 +177,7 @@ public class JvmRecordGen {
                 PASS_B_STRING_RETURN_UNBOXED_LONG, false, null);
     }
 
-    private void splitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitGetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -265,7 +265,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitSetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "putValue", MAP_PUT, "(TK;TV;)TV;", null);
         mv.visitCode();
@@ -294,7 +294,7 @@ public class JvmRecordGen {
         splitSetMethod(cw, fields, className, jvmCastGen);
     }
 
-    private void splitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitSetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -388,7 +388,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitEntrySetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                              JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "entrySet", RECORD_SET, RECORD_SET_MAP_ENTRY, null);
         mv.visitCode();
@@ -418,7 +418,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitEntrySetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                      JvmCastGen jvmCastGen) {
 
         int selfRegIndex = 0;
@@ -483,7 +483,7 @@ public class JvmRecordGen {
         }
     }
 
-    public void createAndSplitContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    public void createAndSplitContainsKeyMethod(ClassVisitor cw, Map<String, BField> fields, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "containsKey", ANY_TO_JBOOLEAN, null, null);
         mv.visitCode();
         int selfIndex = 0;
@@ -509,7 +509,7 @@ public class JvmRecordGen {
         splitContainsKeyMethod(cw, fields, className);
     }
 
-    private void splitContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void splitContainsKeyMethod(ClassVisitor cw, Map<String, BField> fields, String className) {
 
         int bTypesCount = 0;
         int methodCount = 0;
@@ -590,7 +590,7 @@ public class JvmRecordGen {
         mv.visitInsn(IRETURN);
     }
 
-    public void createAndSplitGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetValuesMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                               JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", MAP_VALUES, MAP_VALUES_WITH_COLLECTION, null);
@@ -620,7 +620,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitGetValuesMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                       JvmCastGen jvmCastGen) {
         int selfRegIndex = 0;
         int valuesVarIndex = 1;
@@ -673,7 +673,7 @@ public class JvmRecordGen {
         }
     }
 
-    public void createAndSplitRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitRemoveMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                            JvmCastGen jvmCastGen) {
         // throw an UnsupportedOperationException, since remove is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "remove", PASS_OBJECT_RETURN_OBJECT,
@@ -704,7 +704,7 @@ public class JvmRecordGen {
         splitRemoveMethod(cw, fields, className, jvmCastGen);
     }
 
-    private void splitRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitRemoveMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                    JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -802,7 +802,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    public void createAndSplitGetKeysMethod(ClassVisitor cw, Map<String, BField> fields, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getKeys", RECORD_GET_KEYS, "()[TK;", null);
         mv.visitCode();
         int selfIndex = 0;
@@ -836,7 +836,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void splitGetKeysMethod(ClassVisitor cw, Map<String, BField> fields, String className) {
 
         int selfRegIndex = 0;
         int keysVarIndex = 1;
@@ -898,7 +898,7 @@ public class JvmRecordGen {
         };
     }
 
-    private void createBasicTypeGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createBasicTypeGetMethod(ClassVisitor cw, Map<String, BField> fields, String className,
                                           JvmCastGen jvmCastGen, TypeKind basicType, String methodName,
                                           String methodDesc, boolean boxed, String boxedTypeDesc) {
         List<BField> sortedFields = getSortedFields(fields, basicType);
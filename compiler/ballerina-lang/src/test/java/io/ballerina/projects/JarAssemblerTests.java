@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.internal.JarAssembler;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Contains cases to test updating a jar in place with {@code JarAssembler}.
+ *
+ * @since 2201.13.0
+ */
+public class JarAssemblerTests {
+
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jar-assembler");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @Test
+    public void testUpdateWithoutPreviousJar() throws IOException {
+        Path library = createJar("lib.jar", Map.of("a.txt", "a"));
+        Path jar = tempDir.resolve("app.jar");
+
+        Assert.assertFalse(assemble("main", library).update(jar));
+        Assert.assertEquals(readJar(jar), Map.of(MANIFEST, "main", "a.txt", "a"));
+    }
+
+    @Test
+    public void testUpdateAppendsChangedEntries() throws IOException {
+        Path first = createJar("first.jar", Map.of("a.txt", "a", "b.txt", "b"));
+        Path second = createJar("second.jar", Map.of("c.txt", "c", "d.txt", "d"));
+        Path jar = tempDir.resolve("app.jar");
+        assemble("main", first, second).write(jar);
+        long offset = localHeaderOffset(jar, "a.txt");
+
+        createJar("second.jar", Map.of("c.txt", "changed", "e.txt", "e"));
+        Assert.assertTrue(assemble("main", first, second).update(jar));
+
+        Assert.assertEquals(readJar(jar), Map.of(MANIFEST, "main", "a.txt", "a", "b.txt", "b", "c.txt", "changed",
+                "e.txt", "e"));
+        Assert.assertEquals(localHeaderOffset(jar, "a.txt"), offset);
+        try (JarInputStream jarStream = new JarInputStream(Files.newInputStream(jar))) {
+            Assert.assertNotNull(jarStream.getManifest());
+        }
+    }
+
+    @Test
+    public void testUpdateWithChangedManifest() throws IOException {
+        Path library = createJar("lib.jar", Map.of("a.txt", "a"));
+        Path jar = tempDir.resolve("app.jar");
+        assemble("main", library).write(jar);
+
+        Assert.assertFalse(assemble("other", library).update(jar));
+        Assert.assertEquals(readJar(jar), Map.of(MANIFEST, "other", "a.txt", "a"));
+    }
+
+    @Test
+    public void testUpdateWithManyEntries() throws IOException {
+        // more entries than the central directory of a jar without zip64 extensions can hold
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 70000; i++) {
+            entries.put("entry" + i + ".txt", Integer.toString(i));
+        }
+        Path library = createJar("lib.jar", entries);
+        Path jar = tempDir.resolve("app.jar");
+        assemble("main", library).write(jar);
+
+        entries.put("entry7.txt", "changed");
+        createJar("lib.jar", entries);
+        Assert.assertTrue(assemble("main", library).update(jar));
+
+        Map<String, String> content = readJar(jar);
+        Assert.assertEquals(content.size(), entries.size() + 1);
+        Assert.assertEquals(content.get("entry7.txt"), "changed");
+        Assert.assertEquals(content.get("entry69999.txt"), "69999");
+    }
+
+    private JarAssembler assemble(String manifest, Path... libraries) throws IOException {
+        JarAssembler jarAssembler = new JarAssembler();
+        jarAssembler.addEntry(MANIFEST, manifest.getBytes(StandardCharsets.UTF_8));
+        for (Path library : libraries) {
+            try (ZipFile zipFile = new ZipFile(library.toFile())) {
+                List<ZipArchiveEntry> entries = Collections.list(zipFile.getEntries());
+                jarAssembler.addEntries(library, entries);
+            }
+        }
+        return jarAssembler;
+    }
+
+    private Path createJar(String name, Map<String, String> entries) throws IOException {
+        Path jar = tempDir.resolve(name);
+        try (ZipOutputStream outStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                outStream.putNextEntry(new ZipEntry(entry.getKey()));
+                outStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                outStream.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Map<String, String> readJar(Path jar) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (java.util.zip.ZipFile zipFile = new java.util.zip.ZipFile(jar.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                entries.put(entry.getName(), new String(zipFile.getInputStream(entry).readAllBytes(),
+                        StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private static long localHeaderOffset(Path jar, String name) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            return zipFile.getEntry(name).getLocalHeaderOffset();
+        }
+    }
+}
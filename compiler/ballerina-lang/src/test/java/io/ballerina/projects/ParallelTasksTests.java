@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.internal.ParallelTasks;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Contains cases to test the {@code ParallelTasks} utility.
+ *
+ * @since 2201.13.0
+ */
+public class ParallelTasksTests {
+
+    private ParallelTasks parallelTasks;
+
+    @BeforeMethod
+    public void setUp() {
+        parallelTasks = ParallelTasks.getInstance(new CompilerContext());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    public void testForEach() {
+        List<Integer> items = IntStream.range(0, 1000).boxed().toList();
+        Set<Integer> visited = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        parallelTasks.forEach(items, 2, item -> {
+            visited.add(item);
+            threads.add(Thread.currentThread());
+        });
+        Assert.assertEquals(visited.size(), items.size());
+        Assert.assertTrue(threads.size() <= 2, "threads used: " + threads.size());
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testForEachInCallingThread() {
+        AtomicInteger count = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        parallelTasks.forEach(List.of(1, 2, 3), 1, item -> {
+            Assert.assertSame(Thread.currentThread(), caller);
+            count.incrementAndGet();
+        });
+        Assert.assertEquals(count.get(), 3);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testForEachRethrowsFailures() {
+        parallelTasks.forEach(List.of(1, 2, 3, 4), 4, item -> {
+            if (item == 3) {
+                throw new IllegalStateException("failed " + item);
+            }
+        });
+    }
+
+    @Test
+    public void testPoolSharedAcrossCalls() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10; i++) {
+            parallelTasks.forEach(IntStream.range(0, 100).boxed().toList(), 2,
+                    item -> threads.add(Thread.currentThread()));
+        }
+        Assert.assertTrue(threads.size() <= 2, "threads used: " + threads.size());
+
+        // a new pool is created for the tasks run after the shutdown
+        parallelTasks.shutdown();
+        AtomicInteger count = new AtomicInteger();
+        parallelTasks.forEach(List.of(1, 2, 3), 2, item -> count.incrementAndGet());
+        Assert.assertEquals(count.get(), 3);
+    }
+}
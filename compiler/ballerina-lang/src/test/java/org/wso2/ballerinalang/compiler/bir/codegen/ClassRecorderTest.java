@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_RECORD;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.V21;
+
+/**
+ * Contains cases to test that the classes written by {@link ClassRecorder} are the same as the ones written directly.
+ *
+ * @since 2201.13.0
+ */
+public class ClassRecorderTest {
+
+    private static final String CLASS_NAME = "test/RecordedClass";
+
+    @Test
+    public void testWriteRecordedClass() {
+        ClassWriter classWriter = new BallerinaClassWriter(COMPUTE_FRAMES);
+        generateClass(classWriter);
+
+        ClassRecorder classRecorder = new ClassRecorder();
+        generateClass(classRecorder);
+
+        Assert.assertEquals(classRecorder.write().toByteArray(), classWriter.toByteArray());
+    }
+
+    @Test
+    public void testWriteRecordedClassInAnotherThread() throws InterruptedException {
+        ClassWriter classWriter = new BallerinaClassWriter(COMPUTE_FRAMES);
+        generateClass(classWriter);
+
+        ClassRecorder classRecorder = new ClassRecorder();
+        generateClass(classRecorder);
+        byte[][] bytes = new byte[1][];
+        Thread thread = new Thread(() -> bytes[0] = classRecorder.write().toByteArray());
+        thread.start();
+        thread.join();
+
+        Assert.assertEquals(bytes[0], classWriter.toByteArray());
+    }
+
+    @Test
+    public void testWriteRecordedRecordComponents() {
+        ClassWriter classWriter = new BallerinaClassWriter(COMPUTE_FRAMES);
+        generateRecord(classWriter);
+
+        ClassRecorder classRecorder = new ClassRecorder();
+        generateRecord(classRecorder);
+
+        Assert.assertEquals(classRecorder.write().toByteArray(), classWriter.toByteArray());
+    }
+
+    private static void generateRecord(ClassVisitor cv) {
+        cv.visit(V21, ACC_PUBLIC + ACC_FINAL + ACC_SUPER + ACC_RECORD, CLASS_NAME, null, "java/lang/Record", null);
+        RecordComponentVisitor rcv = cv.visitRecordComponent("name", "Ljava/lang/String;", null);
+        AnnotationVisitor av = rcv.visitAnnotation("Ljava/lang/Deprecated;", true);
+        av.visit("since", "1.0");
+        av.visitEnd();
+        rcv.visitEnd();
+        FieldVisitor fv = cv.visitField(ACC_PRIVATE + ACC_FINAL, "name", "Ljava/lang/String;", null, null);
+        fv.visitEnd();
+        cv.visitEnd();
+    }
+
+    private static void generateClass(ClassVisitor cv) {
+        cv.visit(V21, ACC_PUBLIC + ACC_SUPER, CLASS_NAME, null, "java/lang/Object", null);
+        cv.visitSource("recorded.bal", null);
+
+        // methods are generated interleaved with each other and with the fields
+        MethodVisitor first = cv.visitMethod(ACC_PUBLIC + ACC_STATIC, "first", "(Ljava/lang/Object;)I", null,
+                null);
+        first.visitCode();
+        FieldVisitor fv = cv.visitField(ACC_PUBLIC + ACC_STATIC, "value", "Ljava/lang/String;", null, null);
+        fv.visitEnd();
+
+        MethodVisitor second = cv.visitMethod(ACC_PUBLIC + ACC_STATIC, "second", "(I)Ljava/lang/Object;", null,
+                null);
+        second.visitCode();
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        second.visitTryCatchBlock(start, end, handler, "java/lang/RuntimeException");
+        second.visitLabel(start);
+        second.visitLineNumber(10, start);
+        second.visitFieldInsn(GETSTATIC, CLASS_NAME, "value", "Ljava/lang/String;");
+        second.visitLabel(end);
+        second.visitInsn(ARETURN);
+
+        Label isNull = new Label();
+        first.visitVarInsn(ALOAD, 0);
+        first.visitJumpInsn(IFNULL, isNull);
+        first.visitVarInsn(ALOAD, 0);
+        first.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "hashCode", "()I", false);
+        first.visitInsn(IRETURN);
+        first.visitLabel(isNull);
+        first.visitInsn(ICONST_0);
+        first.visitInsn(IRETURN);
+        first.visitMaxs(0, 0);
+        first.visitEnd();
+
+        second.visitLabel(handler);
+        second.visitInsn(ATHROW);
+        second.visitLocalVariable("index", "I", null, start, end, 0);
+        second.visitMaxs(0, 0);
+        second.visitEnd();
+
+        cv.visitEnd();
+    }
+}
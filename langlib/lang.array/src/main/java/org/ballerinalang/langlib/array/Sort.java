@@ -22,6 +22,8 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -30,6 +32,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
@@ -42,79 +47,240 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public final class Sort {
 
+    private static final String ASCENDING = "ascending";
+    // Arrays larger than this are sorted using the fork-join based parallel sort of the JDK
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final Comparator<BString> CODE_POINT_ORDER = Sort::compareCodePoints;
+
     private Sort() {
     }
 
     public static BArray sort(Environment env, BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer function = (BFunctionPointer) func;
+        String sortDirection = direction.toString();
+        boolean isAscending = ASCENDING.equals(sortDirection);
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        Type elementType = arr.getElementType();
+        if (function == null) {
+            // Elements of these types that compare equal are indistinguishable, hence the sort need not be stable.
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG:
+                    return ValueCreator.createArrayValue(sortInts(arr.getIntArray(), isAscending));
+                case TypeTags.FLOAT_TAG:
+                    return ValueCreator.createArrayValue(sortFloats(arr.getFloatArray(), isAscending));
+                case TypeTags.BYTE_TAG:
+                    return ValueCreator.createArrayValue(sortBytes(arr.getByteArray(), isAscending));
+                case TypeTags.BOOLEAN_TAG:
+                    return ValueCreator.createArrayValue(sortBooleans(arr.getBooleanArray(), isAscending));
+                case TypeTags.STRING_TAG:
+                    return ValueCreator.createArrayValue(sortStrings(arr, isAscending));
+                default:
+                    break;
+            }
+        }
 
+        int size = arr.size();
+        Object[] values = new Object[size];
+        Object[] keys;
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(env.getRuntime(), arr.get(i));
-                sortArr[i][1] = arr.get(i);
+            // Compute the key of each member only once.
+            keys = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
+                keys[i] = function.call(env.getRuntime(), values[i]);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
             }
+            keys = values;
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergesort(keys, order, new int[size], 0, size - 1, sortDirection, isAscending);
 
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[order[k]]);
         }
 
         return sortedArray;
     }
 
+    private static long[] sortInts(long[] values, boolean isAscending) {
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                long temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        return values;
+    }
+
+    private static double[] sortFloats(double[] values, boolean isAscending) {
+        // -0.0 and 0.0 are equal, so their relative order must be retained as in a stable sort.
+        boolean[] zeroSigns = new boolean[values.length];
+        int zeroCount = 0;
+        for (double value : values) {
+            if (value == 0.0) {
+                zeroSigns[zeroCount++] = Double.doubleToRawLongBits(value) < 0;
+            }
+        }
+
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+
+        // NaN values are sorted to the end in both directions.
+        int nonNanCount = values.length;
+        while (nonNanCount > 0 && Double.isNaN(values[nonNanCount - 1])) {
+            nonNanCount--;
+        }
+        if (!isAscending) {
+            for (int i = 0, j = nonNanCount - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+
+        if (zeroCount > 0) {
+            int firstZero = 0;
+            while (values[firstZero] != 0.0) {
+                firstZero++;
+            }
+            for (int i = 0; i < zeroCount; i++) {
+                values[firstZero + i] = zeroSigns[i] ? -0.0 : 0.0;
+            }
+        }
+        return values;
+    }
+
+    private static byte[] sortBytes(byte[] values, boolean isAscending) {
+        int[] counts = new int[256];
+        for (byte value : values) {
+            counts[Byte.toUnsignedInt(value)]++;
+        }
+        int index = 0;
+        for (int i = 0; i < 256; i++) {
+            int value = isAscending ? i : 255 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+        return values;
+    }
+
+    private static boolean[] sortBooleans(boolean[] values, boolean isAscending) {
+        int trueCount = 0;
+        for (boolean value : values) {
+            if (value) {
+                trueCount++;
+            }
+        }
+        int falseCount = values.length - trueCount;
+        if (isAscending) {
+            Arrays.fill(values, 0, falseCount, false);
+            Arrays.fill(values, falseCount, values.length, true);
+        } else {
+            Arrays.fill(values, 0, trueCount, true);
+            Arrays.fill(values, trueCount, values.length, false);
+        }
+        return values;
+    }
+
+    private static BString[] sortStrings(BArray arr, boolean isAscending) {
+        int size = arr.size();
+        BString[] values = new BString[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (BString) arr.get(i);
+        }
+        Arrays.sort(values, isAscending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed());
+        return values;
+    }
+
+    // Compares two strings by code points without decoding them, see ValueComparisonUtils#compareValues.
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar == rhsChar) {
+                continue;
+            }
+            if (lhsChar >= Character.MIN_SURROGATE && rhsChar >= Character.MIN_SURROGATE) {
+                // Surrogates encode supplementary code points, which come after all the other BMP characters.
+                return fixUpForCodePointOrder(lhsChar) - fixUpForCodePointOrder(rhsChar);
+            }
+            return lhsChar - rhsChar;
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    private static int fixUpForCodePointOrder(char c) {
+        return Character.isSurrogate(c) ? c + 0x2000 : c - 0x800;
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(Object[] keys, int[] order, int[] aux, int lo, int hi, String direction,
+                                  boolean isAscending) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(keys, order, aux, lo, mid, direction, isAscending);
+        mergesort(keys, order, aux, mid + 1, hi, direction, isAscending);
 
-        merge(input, aux, lo, mid, hi, direction);
+        // Skip merging if the two halves are already in order
+        if (!isBefore(keys, order[mid + 1], order[mid], direction, isAscending)) {
+            return;
+        }
+        merge(keys, order, aux, lo, mid, hi, direction, isAscending);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
+    private static void merge(Object[] keys, int[] order, int[] aux, int lo, int mid, int hi, String direction,
+                              boolean isAscending) {
+        System.arraycopy(order, lo, aux, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
-
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap<BString, Object>) error.getDetails());
+            if (i > mid) {
+                order[k] = aux[j++];
+            } else if (j > hi) {
+                order[k] = aux[i++];
+            } else if (isBefore(keys, aux[j], aux[i], direction, isAscending)) {
+                order[k] = aux[j++];
+            } else {
+                order[k] = aux[i++];
+            }
+        }
+    }
+
+    // Checks whether the element from the right half should be placed before the element from the left half
+    private static boolean isBefore(Object[] keys, int right, int left, String direction, boolean isAscending) {
+        try {
+            if (isAscending) {
+                return ValueComparisonUtils.compareValues(keys[right], keys[left], direction) < 0;
             }
+            return ValueComparisonUtils.compareValues(keys[left], keys[right], direction) < 0;
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap<BString, Object>) error.getDetails());
         }
     }
 }
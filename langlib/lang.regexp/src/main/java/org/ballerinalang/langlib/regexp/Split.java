@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
 /**
@@ -37,8 +36,7 @@ public final class Split {
 
     public static BArray split(BRegexpValue regExp, BString str) {
         String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
+        String regex = ((RegExpValue) regExp).getTranslatedPattern();
         String[] splitStrArr = originalString.split(regex, -1);
         return StringUtils.fromStringArray(splitStrArr);
     }
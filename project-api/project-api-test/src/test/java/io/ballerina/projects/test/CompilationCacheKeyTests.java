@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.CompilationCache;
+import io.ballerina.projects.CompilationCacheFactory;
+import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.bala.BalaProject;
+import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test the keys of the compilation cache entries of modules.
+ *
+ * @since 2201.13.0
+ */
+public class CompilationCacheKeyTests {
+
+    private static final Path RESOURCE_DIRECTORY = Path.of("src/test/resources/compilation_cache").toAbsolutePath();
+    private static final int NUM_OF_MODULES = 2;
+
+    private Path projectPath;
+    private Path cacheDirPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        projectPath = Files.createTempDirectory("compilation-cache-project");
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.toFile(), projectPath.toFile());
+        cacheDirPath = Files.createTempDirectory("compilation-cache");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(projectPath.toFile());
+        FileUtils.deleteDirectory(cacheDirPath.toFile());
+    }
+
+    @Test(description = "tests that an unchanged package is loaded from the compilation cache")
+    public void testCacheHitOnUnchangedRebuild() {
+        Assert.assertEquals(build().birCachedCount, NUM_OF_MODULES);
+
+        Assert.assertEquals(build().birCachedCount, 0);
+    }
+
+    @Test(description = "tests that editing a module invalidates the modules which depend on it")
+    public void testCacheMissAfterEditingDependencyModule() throws IOException {
+        build();
+        Files.writeString(projectPath.resolve("modules").resolve("greetings").resolve("greetings.bal"), """
+                public function hello(string name) returns string {
+                    return "Hi, " + name;
+                }
+                """);
+
+        Assert.assertEquals(build().birCachedCount, NUM_OF_MODULES);
+        Assert.assertEquals(build().birCachedCount, 0);
+    }
+
+    @Test(description = "tests that changing a platform library invalidates the modules of the package")
+    public void testCacheMissAfterChangingPlatformLibrary() throws IOException {
+        build();
+        Files.writeString(projectPath.resolve("libs").resolve("greetings-native-1.0.0.txt"), "// changed library",
+                StandardCharsets.UTF_8);
+
+        Assert.assertEquals(build().birCachedCount, NUM_OF_MODULES);
+    }
+
+    @Test(description = "tests that a cache entry without a key is not used for a build project")
+    public void testKeylessEntryOfBuildProject() throws IOException {
+        build();
+        deleteKeyFiles();
+
+        Assert.assertEquals(build().birCachedCount, NUM_OF_MODULES);
+    }
+
+    @Test(description = "tests that a cache entry without a key is used for a bala project")
+    public void testKeylessEntryOfBalaProject() throws IOException {
+        Path balaDirPath = Files.createTempDirectory("compilation-cache-bala");
+        try {
+            BuildOptions buildOptions = BuildOptions.builder().setOffline(true).build();
+            Package currentPackage = TestUtils.loadBuildProject(projectPath, buildOptions).currentPackage();
+            JBallerinaBackend.from(currentPackage.getCompilation(), JvmTarget.JAVA_21)
+                    .emit(JBallerinaBackend.OutputType.BALA, balaDirPath);
+            Path balaPath;
+            try (Stream<Path> paths = Files.list(balaDirPath)) {
+                balaPath = paths.findAny().orElseThrow();
+            }
+
+            Assert.assertEquals(buildBala(balaPath).birCachedCount, NUM_OF_MODULES);
+            deleteKeyFiles();
+            Assert.assertEquals(buildBala(balaPath).birCachedCount, 0);
+        } finally {
+            FileUtils.deleteDirectory(balaDirPath.toFile());
+        }
+    }
+
+    @Test(description = "tests that the key is computed before the documents are shrunk at the code generation")
+    public void testKeyOfShrunkDocuments() {
+        RecordingCompilationCacheFactory compilationCacheFactory = new RecordingCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(compilationCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).disableSyntaxTreeCaching(true).build();
+        Project project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21, true);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        Assert.assertEquals(compilationCacheFactory.compilationCache().events.stream()
+                .filter(event -> event.startsWith("cacheKey:")).count(), NUM_OF_MODULES);
+
+        // the keys are the same as the ones computed without shrinking the documents
+        Assert.assertEquals(build().birCachedCount, 0);
+    }
+
+    @Test(description = "tests that the key is removed before the code generation and written after the BIR")
+    public void testOrderOfCacheUpdates() {
+        List<String> events = build().events;
+
+        for (String moduleName : List.of("cached", "cached.greetings")) {
+            int clearIndex = events.indexOf("clearCacheKey:" + moduleName);
+            int birIndex = events.indexOf("cacheBir:" + moduleName);
+            int keyIndex = events.indexOf("cacheKey:" + moduleName);
+            Assert.assertTrue(clearIndex >= 0 && clearIndex < birIndex && birIndex < keyIndex, events.toString());
+            Assert.assertTrue(events.subList(clearIndex, birIndex).stream()
+                    .anyMatch(event -> event.startsWith("cachePlatformSpecificLibrary:")), events.toString());
+        }
+    }
+
+    private RecordingCompilationCache build() {
+        RecordingCompilationCacheFactory compilationCacheFactory = new RecordingCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(compilationCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        Project project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        generateCode(project);
+        return compilationCacheFactory.compilationCache();
+    }
+
+    private RecordingCompilationCache buildBala(Path balaPath) {
+        RecordingCompilationCacheFactory compilationCacheFactory = new RecordingCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(compilationCacheFactory);
+        generateCode(BalaProject.loadProject(environmentBuilder, balaPath));
+        return compilationCacheFactory.compilationCache();
+    }
+
+    private static void generateCode(Project project) {
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(compilation.diagnosticResult()));
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+    }
+
+    private void deleteKeyFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDirPath)) {
+            for (Path path : paths.filter(path -> path.getFileName().toString().endsWith(".key")).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * An instance of {@code CompilationCacheFactory} used for testing purposes.
+     */
+    private static class RecordingCompilationCacheFactory implements CompilationCacheFactory {
+        private RecordingCompilationCache compilationCache;
+        private final Path cacheDirPath;
+
+        RecordingCompilationCacheFactory(Path cacheDirPath) {
+            this.cacheDirPath = cacheDirPath;
+        }
+
+        @Override
+        public CompilationCache createCompilationCache(Project project) {
+            compilationCache = new RecordingCompilationCache(project, cacheDirPath);
+            return compilationCache;
+        }
+
+        public RecordingCompilationCache compilationCache() {
+            return compilationCache;
+        }
+    }
+
+    /**
+     * An instance of {@code CompilationCache} which records the updates to the cache, used for testing purposes.
+     */
+    private static class RecordingCompilationCache extends FileSystemCache {
+        private final List<String> events = new ArrayList<>();
+        private int birCachedCount;
+
+        RecordingCompilationCache(Project project, Path cacheDirPath) {
+            super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
+        }
+
+        @Override
+        public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+            super.cacheBir(moduleName, birContent);
+            birCachedCount++;
+            events.add("cacheBir:" + moduleName);
+        }
+
+        @Override
+        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                 String libraryName,
+                                                 ByteArrayOutputStream libraryContent) {
+            super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            events.add("cachePlatformSpecificLibrary:" + libraryName);
+        }
+
+        @Override
+        public void cacheKey(ModuleName moduleName, String cacheKey) {
+            super.cacheKey(moduleName, cacheKey);
+            events.add("cacheKey:" + moduleName);
+        }
+
+        @Override
+        public void clearCacheKey(ModuleName moduleName) {
+            super.clearCacheKey(moduleName);
+            events.add("clearCacheKey:" + moduleName);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test that the code generation of a package does not depend on the compilation parallelism.
+ *
+ * @since 2201.13.0
+ */
+public class ParallelCodeGenTests {
+
+    private static final Path RESOURCE_DIRECTORY = Path.of("src/test/resources/parallel_codegen").toAbsolutePath();
+
+    private Path projectPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        projectPath = Files.createTempDirectory("parallel-codegen-project");
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.toFile(), projectPath.toFile());
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(projectPath.toFile());
+    }
+
+    @Test(description = "tests that the diagnostics and the module order are the same with parallelism")
+    public void testDeterministicCodeGen() throws IOException {
+        List<String> serialDiagnostics = build(1);
+        // one deprecation warning for each module which uses the common module
+        Assert.assertEquals(serialDiagnostics.size(), 2, serialDiagnostics.toString());
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(build(4), serialDiagnostics);
+        }
+    }
+
+    private List<String> build(int parallelism) throws IOException {
+        Path cacheDirPath = Files.createTempDirectory("parallel-codegen-cache");
+        try {
+            ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+            environmentBuilder.addCompilationCacheFactory(new FileSystemCache.FileSystemCacheFactory(cacheDirPath));
+            BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true)
+                    .setCompilationParallelism(parallelism).build();
+            Project project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+            Package currentPackage = project.currentPackage();
+            JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(currentPackage.getCompilation(),
+                    JvmTarget.JAVA_21);
+            Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                    TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+
+            // all the outputs of the modules are cached once the backend is created
+            Path packageCachePath = cacheDirPath.resolve(currentPackage.packageOrg().value())
+                    .resolve(currentPackage.packageName().value())
+                    .resolve(currentPackage.packageVersion().toString());
+            for (ModuleId moduleId : currentPackage.moduleIds()) {
+                String moduleName = currentPackage.module(moduleId).moduleName().toString();
+                Path birPath = packageCachePath.resolve(ProjectConstants.REPO_BIR_CACHE_NAME);
+                Assert.assertTrue(Files.exists(
+                        birPath.resolve(moduleName + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT)), moduleName);
+                Assert.assertTrue(Files.exists(birPath.resolve(moduleName + ".key")), moduleName);
+            }
+            try (Stream<Path> libraries = Files.list(packageCachePath.resolve(
+                    jBallerinaBackend.targetPlatform().code()))) {
+                Assert.assertEquals(libraries.count(), currentPackage.moduleIds().size());
+            }
+            return jBallerinaBackend.diagnosticResult().diagnostics().stream().map(Diagnostic::toString).toList();
+        } finally {
+            FileUtils.deleteDirectory(cacheDirPath.toFile());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+import cached.greetings;
+
+public function main() {
+    string _ = greetings:hello("world");
+}
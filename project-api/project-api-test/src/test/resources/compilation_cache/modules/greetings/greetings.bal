@@ -0,0 +1,3 @@
+public function hello(string name) returns string {
+    return "Hello, " + name;
+}
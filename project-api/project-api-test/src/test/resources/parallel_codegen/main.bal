@@ -0,0 +1,7 @@
+import parallel.first;
+import parallel.second;
+
+public function main() {
+    first:run();
+    second:run();
+}
@@ -0,0 +1,6 @@
+# Prints nothing.
+# # Deprecated
+# Use a newer function instead.
+@deprecated
+public function old() {
+}
@@ -0,0 +1,5 @@
+import parallel.common;
+
+public function run() {
+    common:old();
+}
@@ -0,0 +1,57 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+isolated function getUnsortedIntArray(int size) returns int[] {
+    int[] values = [];
+    int i = 0;
+    while (i < size) {
+        values.push((i * 7919) % size);
+        i += 1;
+    }
+    return values;
+}
+
+public function benchmarkSortIntArray(int warmupCount, int benchmarkCount) returns int {
+    int[] values = getUnsortedIntArray(warmupCount);
+    int[] sorted = values.sort();
+
+    values = getUnsortedIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    sorted = values.sort(array:DESCENDING);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkSortStringArray(int warmupCount, int benchmarkCount) returns int {
+    string[] values = from int i in getUnsortedIntArray(warmupCount) select i.toString();
+    string[] sorted = values.sort();
+
+    values = from int i in getUnsortedIntArray(benchmarkCount) select i.toString();
+    int startTime = nanoTime();
+    sorted = values.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkSortWithKeyFunction(int warmupCount, int benchmarkCount) returns int {
+    Person[] persons = from int i in getUnsortedIntArray(warmupCount) select {id: i, fname: "FName", lname: "LName"};
+    Person[] sorted = persons.sort(array:ASCENDING, isolated function(Person p) returns int => p.id);
+
+    persons = from int i in getUnsortedIntArray(benchmarkCount) select {id: i, fname: "FName", lname: "LName"};
+    int startTime = nanoTime();
+    sorted = persons.sort(array:ASCENDING, isolated function(Person p) returns int => p.id);
+    return (nanoTime() - startTime);
+}
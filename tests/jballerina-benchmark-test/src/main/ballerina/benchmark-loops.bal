@@ -545,3 +545,19 @@ public function benchmarkJoinWithForeach(int warmupCount, int benchmarkCount) re
     }
     return (nanoTime() - startTime);
 }
+
+public function benchmarkGroupByWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    int[][] ids =
+        from var {id} in pl
+        group by var key = id % 1000
+        select [id];
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    ids =
+        from var {id} in pl
+        group by var key = id % 1000
+        select [id];
+    return (nanoTime() - startTime);
+}
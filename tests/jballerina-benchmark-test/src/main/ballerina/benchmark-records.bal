@@ -0,0 +1,40 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+isolated function createPersons(int count) returns Person[] {
+    Person[] persons = [];
+    foreach int i in 0 ..< count {
+        persons.push({id: i, fname: "FName", lname: "LName"});
+    }
+    return persons;
+}
+
+public function benchmarkCreateRecords(int warmupCount, int benchmarkCount) returns int {
+    Person[] persons = createPersons(warmupCount);
+
+    int startTime = nanoTime();
+    persons = createPersons(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkCreateReadonlyRecords(int warmupCount, int benchmarkCount) returns int {
+    readonly & Person[] persons = createPersons(warmupCount).cloneReadOnly();
+
+    Person[] mutablePersons = createPersons(benchmarkCount);
+    int startTime = nanoTime();
+    persons = mutablePersons.cloneReadOnly();
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,42 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.regexp;
+
+final string logLine = "2026-01-01 12:00:00 INFO [main] Request processed in 35 ms";
+
+public function benchmarkRegExpFind() {
+    regexp:Span? result = re `([0-9]+) ms`.find(logLine);
+}
+
+public function benchmarkRegExpIsFullMatch() {
+    boolean result = re `[0-9-]+ [0-9:]+ [A-Z]+ .*`.isFullMatch(logLine);
+}
+
+public function benchmarkRegExpReplaceAll() {
+    string result = re `[0-9]`.replaceAll(logLine, "#");
+}
+
+public function benchmarkRegExpSplit() {
+    string[] result = re ` `.split(logLine);
+}
+
+public function benchmarkRegExpFromStringFind() {
+    regexp:RegExp|error regExp = regexp:fromString("([0-9]+) ms");
+    if regExp is regexp:RegExp {
+        regexp:Span? result = regExp.find(logLine);
+    }
+}
@@ -0,0 +1,195 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+int nonIsolatedCounter = 0;
+
+function incrementNonIsolatedCounter(int count) {
+    int i = 0;
+    while (i < count) {
+        nonIsolatedCounter += 1;
+        i += 1;
+    }
+}
+
+isolated int lockedCounter = 0;
+
+isolated function incrementLockedCounter(int count) {
+    int i = 0;
+    while (i < count) {
+        lock {
+            lockedCounter += 1;
+        }
+        i += 1;
+    }
+}
+
+isolated function incrementLocalCounter(int count) returns int {
+    int counter = 0;
+    int i = 0;
+    while (i < count) {
+        counter += 1;
+        i += 1;
+    }
+    return counter;
+}
+
+function runNonIsolatedWorkers(int workerCount, int iterations) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < workerCount) {
+        futures.push(start incrementNonIsolatedCounter(iterations));
+        i += 1;
+    }
+    foreach future<()> f in futures {
+        error? result = wait f;
+    }
+}
+
+function runIsolatedWorkers(int workerCount, int iterations) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < workerCount) {
+        futures.push(start incrementLocalCounter(iterations));
+        i += 1;
+    }
+    foreach future<int> f in futures {
+        int|error result = wait f;
+    }
+}
+
+function runLockedWorkers(int workerCount, int iterations) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < workerCount) {
+        futures.push(start incrementLockedCounter(iterations));
+        i += 1;
+    }
+    foreach future<()> f in futures {
+        error? result = wait f;
+    }
+}
+
+isolated class IsolatedCounter {
+    isolated function count(int work) returns int {
+        return incrementLocalCounter(work);
+    }
+}
+
+class NonIsolatedCounter {
+    function count(int work) returns int {
+        return incrementLocalCounter(work);
+    }
+}
+
+const METHOD_CALL_WORK = 100;
+
+function callMethodConcurrently(object {} obj, string methodName, int threadCount, int callCount, int work) =
+@java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.MethodCalls"
+} external;
+
+function benchmarkMethodCalls(object {} obj, int threadCount, int warmupCount, int benchmarkCount) returns int {
+    callMethodConcurrently(obj, "count", threadCount, warmupCount / threadCount, METHOD_CALL_WORK);
+
+    int startTime = nanoTime();
+    callMethodConcurrently(obj, "count", threadCount, benchmarkCount / threadCount, METHOD_CALL_WORK);
+    return (nanoTime() - startTime);
+}
+
+function benchmarkLockedWorkers(int workerCount, int warmupCount, int benchmarkCount) returns int {
+    runLockedWorkers(workerCount, warmupCount / workerCount);
+
+    int iterations = benchmarkCount / workerCount;
+    int startTime = nanoTime();
+    runLockedWorkers(workerCount, iterations);
+    return (nanoTime() - startTime);
+}
+
+function benchmarkWorkers(int workerCount, boolean isolatedWorkers, int warmupCount, int benchmarkCount) returns int {
+    int iterations = warmupCount / workerCount;
+    if (isolatedWorkers) {
+        runIsolatedWorkers(workerCount, iterations);
+    } else {
+        runNonIsolatedWorkers(workerCount, iterations);
+    }
+
+    iterations = benchmarkCount / workerCount;
+    int startTime = nanoTime();
+    if (isolatedWorkers) {
+        runIsolatedWorkers(workerCount, iterations);
+    } else {
+        runNonIsolatedWorkers(workerCount, iterations);
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkNonIsolatedWorkers1(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(1, false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonIsolatedWorkers4(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(4, false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonIsolatedWorkers16(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(16, false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonIsolatedWorkers64(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(64, false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedWorkers1(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(1, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedWorkers4(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(4, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedWorkers16(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(16, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedWorkers64(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWorkers(64, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkLockedWorkers1(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkLockedWorkers(1, warmupCount, benchmarkCount);
+}
+
+public function benchmarkLockedWorkers16(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkLockedWorkers(16, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedMethodCalls1(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkMethodCalls(new IsolatedCounter(), 1, warmupCount, benchmarkCount);
+}
+
+public function benchmarkIsolatedMethodCalls16(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkMethodCalls(new IsolatedCounter(), 16, warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonIsolatedMethodCalls1(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkMethodCalls(new NonIsolatedCounter(), 1, warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonIsolatedMethodCalls16(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkMethodCalls(new NonIsolatedCounter(), 16, warmupCount, benchmarkCount);
+}
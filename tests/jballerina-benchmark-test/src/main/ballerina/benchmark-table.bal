@@ -0,0 +1,69 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type PersonTable table<Person>;
+
+type KeyedPersonTable table<Person> key(id);
+
+public function benchmarkBuildKeylessTable(int warmupCount, int benchmarkCount) returns int {
+    PersonTable persons = table [];
+    foreach int i in 0 ..< warmupCount {
+        persons.add({id: i, fname: "FName", lname: "LName"});
+    }
+
+    persons = table [];
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        persons.add({id: i, fname: "FName", lname: "LName"});
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkBuildKeyedTable(int warmupCount, int benchmarkCount) returns int {
+    KeyedPersonTable persons = table [];
+    foreach int i in 0 ..< warmupCount {
+        persons.add({id: i, fname: "FName", lname: "LName"});
+    }
+
+    persons = table [];
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        persons.add({id: i, fname: "FName", lname: "LName"});
+    }
+    return (nanoTime() - startTime);
+}
+
+isolated function getPersonTable(int size) returns PersonTable {
+    PersonTable persons = table [];
+    foreach int i in 0 ..< size {
+        persons.add({id: i, fname: "FName", lname: "LName"});
+    }
+    return persons;
+}
+
+public function benchmarkIterateKeylessTable(int warmupCount, int benchmarkCount) returns int {
+    int sum = 0;
+    foreach Person p in getPersonTable(warmupCount) {
+        sum += p.id;
+    }
+
+    PersonTable persons = getPersonTable(benchmarkCount);
+    int startTime = nanoTime();
+    foreach Person p in persons {
+        sum += p.id;
+    }
+    return (nanoTime() - startTime);
+}
@@ -95,3 +95,21 @@ public function benchmarkStringLength() {
     int i = str.length();
 }
 
+
+function buildString(int fragmentCount) returns string {
+    string result = "";
+    int i = 0;
+    while (i < fragmentCount) {
+        result += "fragment" + (i % 10).toString() + ";";
+        i += 1;
+    }
+    return result;
+}
+
+public function benchmarkStringBuildByConcat(int warmupCount, int benchmarkCount) returns int {
+    _ = buildString(warmupCount);
+
+    int startTime = nanoTime();
+    _ = buildString(benchmarkCount);
+    return (nanoTime() - startTime);
+}
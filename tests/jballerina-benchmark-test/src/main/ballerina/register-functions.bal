@@ -36,6 +36,30 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkGroupByWithQuery", benchmarkGroupByWithQuery);
+    addSingleExecFunction("benchmarkSortIntArray", benchmarkSortIntArray);
+    addSingleExecFunction("benchmarkSortStringArray", benchmarkSortStringArray);
+    addSingleExecFunction("benchmarkSortWithKeyFunction", benchmarkSortWithKeyFunction);
+    addSingleExecFunction("benchmarkBuildKeylessTable", benchmarkBuildKeylessTable);
+    addSingleExecFunction("benchmarkBuildKeyedTable", benchmarkBuildKeyedTable);
+    addSingleExecFunction("benchmarkIterateKeylessTable", benchmarkIterateKeylessTable);
+    addSingleExecFunction("benchmarkCreateRecords", benchmarkCreateRecords);
+    addSingleExecFunction("benchmarkCreateReadonlyRecords", benchmarkCreateReadonlyRecords);
+    addSingleExecFunction("benchmarkNonIsolatedWorkers1", benchmarkNonIsolatedWorkers1);
+    addSingleExecFunction("benchmarkNonIsolatedWorkers4", benchmarkNonIsolatedWorkers4);
+    addSingleExecFunction("benchmarkNonIsolatedWorkers16", benchmarkNonIsolatedWorkers16);
+    addSingleExecFunction("benchmarkNonIsolatedWorkers64", benchmarkNonIsolatedWorkers64);
+    addSingleExecFunction("benchmarkIsolatedWorkers1", benchmarkIsolatedWorkers1);
+    addSingleExecFunction("benchmarkIsolatedWorkers4", benchmarkIsolatedWorkers4);
+    addSingleExecFunction("benchmarkIsolatedWorkers16", benchmarkIsolatedWorkers16);
+    addSingleExecFunction("benchmarkIsolatedWorkers64", benchmarkIsolatedWorkers64);
+    addSingleExecFunction("benchmarkLockedWorkers1", benchmarkLockedWorkers1);
+    addSingleExecFunction("benchmarkLockedWorkers16", benchmarkLockedWorkers16);
+    addSingleExecFunction("benchmarkIsolatedMethodCalls1", benchmarkIsolatedMethodCalls1);
+    addSingleExecFunction("benchmarkIsolatedMethodCalls16", benchmarkIsolatedMethodCalls16);
+    addSingleExecFunction("benchmarkNonIsolatedMethodCalls1", benchmarkNonIsolatedMethodCalls1);
+    addSingleExecFunction("benchmarkNonIsolatedMethodCalls16", benchmarkNonIsolatedMethodCalls16);
+    addSingleExecFunction("benchmarkStringBuildByConcat", benchmarkStringBuildByConcat);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +87,9 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkRegExpFind", benchmarkRegExpFind);
+    addMultiExecFunction("benchmarkRegExpIsFullMatch", benchmarkRegExpIsFullMatch);
+    addMultiExecFunction("benchmarkRegExpReplaceAll", benchmarkRegExpReplaceAll);
+    addMultiExecFunction("benchmarkRegExpSplit", benchmarkRegExpSplit);
+    addMultiExecFunction("benchmarkRegExpFromStringFind", benchmarkRegExpFromStringFind);
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * This class calls Ballerina object methods through the runtime API, as a Java library would, for benchmarking.
+ *
+ * @since 2201.13.0
+ */
+public final class MethodCalls {
+
+    private MethodCalls() {
+    }
+
+    /**
+     * Calls the given method of the object from several Java threads at once, using {@link Runtime#callMethod}.
+     *
+     * @param env         environment of the calling strand
+     * @param object      object whose method is called
+     * @param methodName  name of the method, which takes the amount of work per call as the only argument
+     * @param threadCount number of Java threads which call the method
+     * @param callCount   number of calls made by each thread
+     * @param work        argument passed to each call
+     */
+    public static void callMethodConcurrently(Environment env, BObject object, BString methodName, long threadCount,
+                                              long callCount, long work) {
+        Runtime runtime = env.getRuntime();
+        String name = methodName.getValue();
+        // the calling strand gives up the global lock, so that the calls to non-isolated methods can take it
+        env.yieldAndRun(() -> {
+            Thread[] threads = new Thread[(int) threadCount];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = Thread.ofPlatform().start(() -> {
+                    for (long j = 0; j < callCount; j++) {
+                        runtime.callMethod(object, name, null, work);
+                    }
+                });
+            }
+            try {
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ErrorCreator.createError(StringUtils.fromString("interrupted while calling " + name));
+            }
+            return null;
+        });
+    }
+}